@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.4.3"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.customer.relationship.management"
@@ -20,6 +21,14 @@ repositories {
 dependencies {
 	implementation("org.springframework.boot:spring-boot-starter")
 	implementation("org.springframework.boot:spring-boot-starter-web")
+	implementation("org.springframework.boot:spring-boot-starter-cache")
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
+	implementation("org.hibernate.orm:hibernate-micrometer")
+	implementation("com.github.ben-manes.caffeine:caffeine")
+	implementation("com.github.ben-manes.caffeine:jcache")
+	implementation("org.hibernate.orm:hibernate-jcache")
+	implementation("it.unimi.dsi:fastutil-core:8.5.13")
 	implementation("org.springframework.security:spring-security-config:6.4.4")
 	implementation("org.springframework.security:spring-security-core:6.4.4")
 	implementation("org.springframework.security:spring-security-web:6.4.4")
@@ -43,8 +52,20 @@ dependencies {
 	runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.11.5")
 
 	implementation("org.springframework.security:spring-security-test")
+
+	jmhRuntimeOnly("com.h2database:h2")
 }
 
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+jmh {
+	warmupIterations = 3
+	iterations = 5
+	fork = 1
+	jvmArgs = listOf("-Xmx2g")
+	resultFormat = "JSON"
+	(findProperty("jmh.includes") as String?)?.let { includes = listOf(it) }
+	(findProperty("jmh.salesRows") as String?)?.let { benchmarkParameters.put("salesRows", objects.listProperty(String::class.java).value(it.split(","))) }
+}
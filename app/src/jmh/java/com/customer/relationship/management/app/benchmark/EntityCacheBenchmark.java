@@ -0,0 +1,103 @@
+package com.customer.relationship.management.app.benchmark;
+
+import com.customer.relationship.management.app.accounts.AccountDTO;
+import com.customer.relationship.management.app.accounts.AccountRepository;
+import com.customer.relationship.management.app.leads.LeadPageResponse;
+import com.customer.relationship.management.app.leads.LeadService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * What the second-level cache saves on the reads behind {@code /api/accounts/team} and {@code /api/leads}:
+ * each benchmark runs once against a warm cache and once after evicting every region. Besides the timings,
+ * JMH reports the {@code calls} made and the {@code preparedStatements} they issued as secondary results.
+ * Run with {@code ./gradlew jmh -Pjmh.includes=EntityCacheBenchmark -Pjmh.salesRows=10000}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EntityCacheBenchmark {
+
+    private EntityManagerFactory entityManagerFactory;
+    private Statistics statistics;
+    private Long teamId;
+    private Long repId;
+
+    @Setup(Level.Trial)
+    public void setUp(SeededDatabase db) {
+        entityManagerFactory = db.bean(EntityManagerFactory.class);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        JdbcTemplate jdbcTemplate = db.bean(JdbcTemplate.class);
+        teamId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM teams", Long.class);
+        repId = jdbcTemplate.queryForObject("SELECT MIN(user_id) FROM accounts", Long.class);
+    }
+
+    @Benchmark
+    public List<AccountDTO> teamAccountsWarm(SeededDatabase db, StatementCounters counters) {
+        return counted(counters, () -> teamAccounts(db));
+    }
+
+    @Benchmark
+    public List<AccountDTO> teamAccountsCold(SeededDatabase db, StatementCounters counters) {
+        entityManagerFactory.getCache().evictAll();
+        return counted(counters, () -> teamAccounts(db));
+    }
+
+    @Benchmark
+    public LeadPageResponse repLeadPageWarm(SeededDatabase db, StatementCounters counters) {
+        return counted(counters, () -> db.bean(LeadService.class).getLeadsByUser(repId, "createdAt", "desc", 0, 50));
+    }
+
+    @Benchmark
+    public LeadPageResponse repLeadPageCold(SeededDatabase db, StatementCounters counters) {
+        entityManagerFactory.getCache().evictAll();
+        return counted(counters, () -> db.bean(LeadService.class).getLeadsByUser(repId, "createdAt", "desc", 0, 50));
+    }
+
+    private List<AccountDTO> teamAccounts(SeededDatabase db) {
+        return db.bean(AccountRepository.class).findByUserTeamId(teamId).stream()
+                .map(AccountDTO::new)
+                .toList();
+    }
+
+    private <T> T counted(StatementCounters counters, Supplier<T> call) {
+        long before = statistics.getPrepareStatementCount();
+        T result = call.get();
+        counters.preparedStatements += statistics.getPrepareStatementCount() - before;
+        counters.calls++;
+        return result;
+    }
+
+    /**
+     * Per-iteration totals; divide {@code preparedStatements} by {@code calls} for statements per call.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StatementCounters {
+
+        public long calls;
+        public long preparedStatements;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            calls = 0;
+            preparedStatements = 0;
+        }
+    }
+}
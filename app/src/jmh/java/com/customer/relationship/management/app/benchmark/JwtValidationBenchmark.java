@@ -0,0 +1,86 @@
+package com.customer.relationship.management.app.benchmark;
+
+import com.customer.relationship.management.app.auth.JwtUtil;
+import com.customer.relationship.management.app.users.User;
+import com.customer.relationship.management.app.users.UserRole;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request token verification cost: a parser built per call (the previous {@code JwtUtil}),
+ * a shared parser, and {@link JwtUtil} with and without its verified-token cache.
+ * Run with {@code ./gradlew jmh -Pjmh.includes=JwtValidationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtValidationBenchmark {
+
+    private Key key;
+    private JwtParser sharedParser;
+    private String token;
+
+    private JwtUtil uncachedJwtUtil;
+    private JwtUtil cachedJwtUtil;
+    private String uncachedHeader;
+    private String cachedHeader;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+        sharedParser = Jwts.parserBuilder().setSigningKey(key).build();
+        token = Jwts.builder()
+                .setClaims(Map.of("role", "SALESPERSON", "userId", 1L, "email", "rep@example.com"))
+                .setSubject("rep@example.com")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(10)))
+                .signWith(key)
+                .compact();
+
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("rep@example.com");
+        user.setRole(UserRole.SALESPERSON);
+
+        uncachedJwtUtil = new JwtUtil(0);
+        cachedJwtUtil = new JwtUtil();
+        uncachedHeader = "Bearer " + uncachedJwtUtil.generateToken(user);
+        cachedHeader = "Bearer " + cachedJwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public Claims parserPerCall() {
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims sharedParser() {
+        return sharedParser.parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims jwtUtilWithoutCache() {
+        return uncachedJwtUtil.validateToken(uncachedHeader);
+    }
+
+    @Benchmark
+    public Claims jwtUtilWithCache() {
+        return cachedJwtUtil.validateToken(cachedHeader);
+    }
+}
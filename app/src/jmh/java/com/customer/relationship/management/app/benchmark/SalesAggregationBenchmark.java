@@ -0,0 +1,79 @@
+package com.customer.relationship.management.app.benchmark;
+
+import com.customer.relationship.management.app.leads.LeadPageResponse;
+import com.customer.relationship.management.app.leads.LeadService;
+import com.customer.relationship.management.app.sales.SalesMonthlyRollupRepository;
+import com.customer.relationship.management.app.sales.SalesRankingDTO;
+import com.customer.relationship.management.app.sales.SalesRankingService;
+import com.customer.relationship.management.app.teams.TeamSalesReportDTO;
+import com.customer.relationship.management.app.teams.TeamSalesReportService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.customer.relationship.management.app.benchmark.SeededDatabase.RANKED_MONTH;
+import static com.customer.relationship.management.app.benchmark.SeededDatabase.RANKED_YEAR;
+
+/**
+ * Regression numbers for the reporting paths. Run with {@code ./gradlew jmh}; narrow it down with
+ * {@code -Pjmh.includes=SalesAggregationBenchmark.salesRanking -Pjmh.salesRows=10000}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SalesAggregationBenchmark {
+
+    @Benchmark
+    public List<SalesRankingDTO> salesRankingMonth(SeededDatabase db) {
+        return db.bean(SalesRankingService.class).getSalesRanking(RANKED_YEAR, RANKED_MONTH, null, null);
+    }
+
+    @Benchmark
+    public List<SalesRankingDTO> salesRankingMonthCached(SeededDatabase db) {
+        return db.bean(SalesRankingService.class).getSalesRanking(RANKED_YEAR, RANKED_MONTH);
+    }
+
+    @Benchmark
+    public List<SalesRankingDTO> salesRankingQuarterRange(SeededDatabase db) {
+        LocalDate from = LocalDate.of(RANKED_YEAR, 1, 1);
+        return db.bean(SalesRankingService.class).getSalesRanking(from, from.plusMonths(3));
+    }
+
+    @Benchmark
+    public List<SalesRankingDTO> salesRankingPartialRange(SeededDatabase db) {
+        LocalDate from = LocalDate.of(RANKED_YEAR, 1, 15);
+        return db.bean(SalesRankingService.class).getSalesRanking(from, from.plusDays(60));
+    }
+
+    @Benchmark
+    public List<TeamSalesReportDTO> teamSalesReport(UncachedTeamReport report) {
+        return report.service.getTeamSalesReport(RANKED_YEAR, RANKED_MONTH);
+    }
+
+    @Benchmark
+    public LeadPageResponse leadPage(SeededDatabase db) {
+        return db.bean(LeadService.class).getAllLeads("createdAt", "desc", 0, 50);
+    }
+
+    /**
+     * A plain instance outside the Spring proxy, so every call reaches the rollup instead of the report cache.
+     */
+    @State(Scope.Benchmark)
+    public static class UncachedTeamReport {
+
+        TeamSalesReportService service;
+
+        @Setup(Level.Trial)
+        public void setUp(SeededDatabase db) {
+            service = new TeamSalesReportService(db.bean(SalesMonthlyRollupRepository.class));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.customer.relationship.management.app.benchmark;
+
+import com.customer.relationship.management.app.sales.SaleRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.customer.relationship.management.app.benchmark.SeededDatabase.RANKED_MONTH;
+import static com.customer.relationship.management.app.benchmark.SeededDatabase.RANKED_YEAR;
+
+/**
+ * Compares the old {@code YEAR()/MONTH()} period filter on {@code sales} with the half-open close-date range.
+ * Run with {@code ./gradlew jmh -Pjmh.includes=SalesPeriodQueryBenchmark -Pjmh.salesRows=1000000}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SalesPeriodQueryBenchmark {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(RANKED_YEAR, RANKED_MONTH, 1, 0, 0);
+    private static final LocalDateTime TO = FROM.plusMonths(1);
+
+    @Benchmark
+    public List<Object[]> functionPredicate(SeededDatabase db) {
+        return db.bean(EntityManager.class).createQuery(
+                        "SELECT s.salesRep.id, SUM(s.amount), COUNT(s) FROM Sale s " +
+                                "WHERE YEAR(s.closeDate) = :year AND MONTH(s.closeDate) = :month " +
+                                "GROUP BY s.salesRep.id", Object[].class)
+                .setParameter("year", RANKED_YEAR)
+                .setParameter("month", RANKED_MONTH)
+                .getResultList();
+    }
+
+    @Benchmark
+    public List<Object[]> closeDateRange(SeededDatabase db) {
+        return db.bean(SaleRepository.class).findMonthlyPerformance(FROM, TO);
+    }
+}
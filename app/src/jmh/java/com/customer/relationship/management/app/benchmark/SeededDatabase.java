@@ -0,0 +1,116 @@
+package com.customer.relationship.management.app.benchmark;
+
+import com.customer.relationship.management.app.AppApplication;
+import com.customer.relationship.management.app.sales.SalesRollupService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the application against an in-memory H2 database seeded with {@code salesRows} sales,
+ * spread over three years up to {@link #RANKED_MONTH}, plus teams, accounts and leads.
+ * One context is started per trial, so every benchmark of a fork shares the same data.
+ */
+@State(Scope.Benchmark)
+public class SeededDatabase {
+
+    static final int RANKED_YEAR = 2025;
+    static final int RANKED_MONTH = 3;
+
+    private static final int TEAMS = 20;
+    private static final int SALES_REPS = 200;
+    private static final int COMPANIES = 100;
+    private static final int ACCOUNTS = 1_000;
+    private static final int LEADS = 10_000;
+
+    @Param({"10000", "1000000"})
+    public int salesRows;
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(AppApplication.class)
+                .profiles("test")
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:jmh-" + salesRows + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "server.port=0",
+                        "logging.level.root=WARN"
+                )
+                .run();
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        seed(jdbcTemplate);
+        context.getBean(SalesRollupService.class).rebuild();
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        List<Object[]> teams = new ArrayList<>();
+        for (int i = 0; i < TEAMS; i++) {
+            teams.add(new Object[]{"Bench team " + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO teams (name) VALUES (?)", teams);
+        Long firstTeamId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM teams", Long.class);
+
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < SALES_REPS; i++) {
+            users.add(new Object[]{"Rep", "No" + i, "jmh-rep-" + i + "@example.com", firstTeamId + i % TEAMS});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO users (first_name, last_name, email, password, role, team_id, active, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, 'x', 'SALESPERSON', ?, TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                users
+        );
+        Long firstRepId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Long.class);
+
+        jdbcTemplate.update(
+                "INSERT INTO sales (sales_rep_id, amount, close_date) " +
+                        "SELECT ? + MOD(X, ?), 10000 + MOD(X * 7919, 90000), " +
+                        "DATEADD('MINUTE', -MOD(X * 104729, 1576800), TIMESTAMP '2025-04-01 00:00:00') " +
+                        "FROM SYSTEM_RANGE(1, ?)",
+                firstRepId, SALES_REPS, salesRows
+        );
+
+        jdbcTemplate.update(
+                "INSERT INTO companies (name, industry) " +
+                        "SELECT 'Company ' || X, 'Industry ' || MOD(X, 10) FROM SYSTEM_RANGE(1, ?)",
+                COMPANIES
+        );
+        Long firstCompanyId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM companies", Long.class);
+
+        jdbcTemplate.update(
+                "INSERT INTO accounts (user_id, first_name, last_name, email, account_status, phone_number, company_id) " +
+                        "SELECT ? + MOD(X, ?), 'Client', 'No' || X, 'jmh-client-' || X || '@example.com', 'ACTIVE', '500000000', " +
+                        "? + MOD(X, ?) FROM SYSTEM_RANGE(1, ?)",
+                firstRepId, SALES_REPS, firstCompanyId, COMPANIES, ACCOUNTS
+        );
+        Long firstAccountId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM accounts", Long.class);
+
+        jdbcTemplate.update(
+                "INSERT INTO leads (description, status, account_id, estimated_value, created_at, updated_at) " +
+                        "SELECT 'Lead ' || X, 'NEW', ? + MOD(X, ?), 1000 + MOD(X * 31, 50000), " +
+                        "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)",
+                firstAccountId, ACCOUNTS, LEADS
+        );
+    }
+}
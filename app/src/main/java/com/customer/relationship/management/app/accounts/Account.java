@@ -12,6 +12,7 @@ import lombok.Setter;
 import java.util.List;
 
 @Entity
+@EntityListeners(AccountOwnershipListener.class)
 @Table(name = "accounts")
 @Getter
 @Setter
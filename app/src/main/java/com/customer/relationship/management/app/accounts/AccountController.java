@@ -1,14 +1,17 @@
 package com.customer.relationship.management.app.accounts;
 
+import com.customer.relationship.management.app.config.web.ExportFormat;
+import com.customer.relationship.management.app.config.web.StreamingExporter;
+import com.customer.relationship.management.app.users.CurrentUser;
 import com.customer.relationship.management.app.users.User;
-import com.customer.relationship.management.app.users.UserRepository;
+import com.customer.relationship.management.app.users.UserRole;
+import com.customer.relationship.management.app.users.UserView;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,7 +23,7 @@ import java.util.Optional;
 class AccountController {
 
     private final AccountService accountService;
-    private final UserRepository userRepository;
+    private final StreamingExporter streamingExporter;
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
@@ -28,6 +31,17 @@ class AccountController {
         return accountService.findAll();
     }
 
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('SALESPERSON')")
+    public ResponseEntity<StreamingResponseBody> exportAccounts(@RequestParam(defaultValue = "ndjson") String format,
+                                                                @CurrentUser UserView currentUser) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        if (currentUser.role() == UserRole.SALESPERSON) {
+            return streamingExporter.export("accounts", exportFormat, () -> accountService.streamAllByUserId(currentUser.id()));
+        }
+        return streamingExporter.export("accounts", exportFormat, accountService::streamAll);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("@accountSecurity.canAccessAccount(authentication, #id)")
     public ResponseEntity<Account> getAccountById(@PathVariable Long id) {
@@ -52,11 +66,8 @@ class AccountController {
 
     @PostMapping
     @PreAuthorize("hasRole('SALESPERSON')")
-    public ResponseEntity<Account> createAccount(@Valid @RequestBody CreateAccountDTO createAccountDTO) {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
+    public ResponseEntity<Account> createAccount(@Valid @RequestBody CreateAccountDTO createAccountDTO,
+                                                 @CurrentUser User user) {
         return ResponseEntity.ok(accountService.createAccount(createAccountDTO, user));
     }
 
@@ -80,16 +91,12 @@ class AccountController {
 
     @GetMapping("/team")
     @PreAuthorize("hasRole('MANAGER')")
-    public ResponseEntity<List<AccountDTO>> getTeamAccounts(Authentication authentication) {
-        String email = authentication.getName();
-        User manager = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        if (manager.getTeam() == null) {
+    public ResponseEntity<List<AccountDTO>> getTeamAccounts(@CurrentUser UserView manager) {
+        if (manager.teamId() == null) {
             return ResponseEntity.ok(List.of());
         }
 
-        List<Account> accounts = accountService.getAccountsByTeam(manager.getTeam());
+        List<Account> accounts = accountService.getAccountsByTeamId(manager.teamId());
         List<AccountDTO> dtos = accounts.stream()
                 .map(AccountDTO::new)
                 .toList();
@@ -99,12 +106,8 @@ class AccountController {
 
     @GetMapping("/my")
     @PreAuthorize("hasRole('SALESPERSON')")
-    public ResponseEntity<List<AccountDTO>> getMyAccounts(Authentication authentication) {
-        String email = authentication.getName();
-        User currentUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        List<Account> accounts = accountService.getAccountsByUser(currentUser);
+    public ResponseEntity<List<AccountDTO>> getMyAccounts(@CurrentUser UserView currentUser) {
+        List<Account> accounts = accountService.getAccountsByUserId(currentUser.id());
         List<AccountDTO> dtos = accounts.stream()
                 .map(AccountDTO::new)
                 .toList();
@@ -0,0 +1,7 @@
+package com.customer.relationship.management.app.accounts;
+
+/**
+ * An account id with the id of the user owning it; {@code userId} is {@code null} for unassigned accounts.
+ */
+record AccountOwner(Long accountId, Long userId) {
+}
@@ -0,0 +1,119 @@
+package com.customer.relationship.management.app.accounts;
+
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory account id → owner user id map used by {@link AccountSecurityEvaluator}, so ownership
+ * checks need no query. It is loaded once the application is ready and kept in sync by
+ * {@link AccountOwnershipListener}; changes are applied only after their transaction commits.
+ * Accounts inserted outside JPA (e.g. the bulk seeder) are looked up on first use.
+ */
+@Component
+class AccountOwnershipIndex {
+
+    private static final long NO_OWNER = 0L;
+    private static final long UNKNOWN = -1L;
+
+    private final AccountRepository accountRepository;
+    private final Long2LongOpenHashMap owners = new Long2LongOpenHashMap();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    AccountOwnershipIndex(AccountRepository accountRepository) {
+        this.accountRepository = accountRepository;
+        this.owners.defaultReturnValue(UNKNOWN);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void load() {
+        List<AccountOwner> all = accountRepository.findAllOwners();
+        lock.writeLock().lock();
+        try {
+            owners.ensureCapacity(all.size());
+            for (AccountOwner owner : all) {
+                owners.put(owner.accountId().longValue(), encode(owner.userId()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    boolean isOwnedBy(Long accountId, Long userId) {
+        if (accountId == null || userId == null) {
+            return false;
+        }
+        long owner = ownerOf(accountId);
+        return owner != NO_OWNER && owner != UNKNOWN && owner == userId;
+    }
+
+    void assigned(Long accountId, Long userId) {
+        afterCommit(() -> put(accountId, encode(userId)));
+    }
+
+    void removed(Long accountId) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                owners.remove(accountId.longValue());
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private long ownerOf(long accountId) {
+        long owner;
+        lock.readLock().lock();
+        try {
+            owner = owners.get(accountId);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (owner != UNKNOWN) {
+            return owner;
+        }
+        // not cached yet, e.g. inserted over JDBC; missing accounts are not remembered
+        return accountRepository.findOwner(accountId)
+                .map(found -> {
+                    long encoded = encode(found.userId());
+                    afterCommit(() -> put(accountId, encoded));
+                    return encoded;
+                })
+                .orElse(UNKNOWN);
+    }
+
+    private void put(long accountId, long owner) {
+        lock.writeLock().lock();
+        try {
+            owners.put(accountId, owner);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static long encode(Long userId) {
+        return userId != null ? userId : NO_OWNER;
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        // a rolled back transaction must leave the index untouched
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+}
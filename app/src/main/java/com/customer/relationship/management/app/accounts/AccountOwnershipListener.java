@@ -0,0 +1,29 @@
+package com.customer.relationship.management.app.accounts;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Feeds account creation, reassignment and deletion into the {@link AccountOwnershipIndex}.
+ * Hibernate creates it through Spring's bean container, which supplies the index.
+ */
+class AccountOwnershipListener {
+
+    private final AccountOwnershipIndex ownershipIndex;
+
+    AccountOwnershipListener(AccountOwnershipIndex ownershipIndex) {
+        this.ownershipIndex = ownershipIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    void onSave(Account account) {
+        ownershipIndex.assigned(account.getId(), account.getUser() != null ? account.getUser().getId() : null);
+    }
+
+    @PostRemove
+    void onRemove(Account account) {
+        ownershipIndex.removed(account.getId());
+    }
+}
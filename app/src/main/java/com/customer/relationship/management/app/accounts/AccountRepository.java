@@ -1,12 +1,16 @@
 package com.customer.relationship.management.app.accounts;
 
-import com.customer.relationship.management.app.teams.Team;
 import com.customer.relationship.management.app.users.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface AccountRepository extends JpaRepository<Account, Long> {
 
@@ -16,8 +20,30 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
 
     List<AccountInfo> findAllByAccountStatusAndUserId(AccountStatus accountStatus, Long userId);
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<AccountInfo> streamAllByOrderByIdAsc();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<AccountInfo> streamAllByUserIdOrderByIdAsc(Long userId);
+
+    @Query("SELECT new com.customer.relationship.management.app.accounts.AccountOwner(a.id, u.id) " +
+            "FROM Account a LEFT JOIN a.user u")
+    List<AccountOwner> findAllOwners();
+
+    @Query("SELECT new com.customer.relationship.management.app.accounts.AccountOwner(a.id, u.id) " +
+            "FROM Account a LEFT JOIN a.user u WHERE a.id = :accountId")
+    Optional<AccountOwner> findOwner(@Param("accountId") Long accountId);
+
     List<Account> findByUser(User user);
 
-    @Query("SELECT a FROM Account a WHERE a.user.team = :team")
-    List<Account> findByUserTeam(@Param("team") Team team);
+    List<Account> findByUserId(Long userId);
+
+    @Query("SELECT a FROM Account a WHERE a.user.team.id = :teamId")
+    List<Account> findByUserTeamId(@Param("teamId") Long teamId);
 }
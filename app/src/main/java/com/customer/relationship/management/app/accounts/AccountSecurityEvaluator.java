@@ -1,18 +1,22 @@
 package com.customer.relationship.management.app.accounts;
 
+import com.customer.relationship.management.app.users.PrincipalCache;
 import com.customer.relationship.management.app.users.UserRole;
-import com.customer.relationship.management.app.users.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
+/**
+ * Ownership checks for {@code @PreAuthorize}. The current user comes from the authenticated principal
+ * and account owners from the {@link AccountOwnershipIndex}, so neither loads an entity.
+ */
 @Component("accountSecurity")
 @RequiredArgsConstructor
 class AccountSecurityEvaluator {
 
-    private final AccountService accountService;
-    private final UserService userService;
+    private final AccountOwnershipIndex ownershipIndex;
+    private final PrincipalCache principalCache;
 
     public boolean canAccessAccount(Authentication authentication, Long accountId) {
         if (authentication == null || !authentication.isAuthenticated()) {
@@ -24,10 +28,7 @@ class AccountSecurityEvaluator {
         }
 
         if (hasRole(authentication, UserRole.SALESPERSON)) {
-            String userEmail = authentication.getName();
-            Account account = accountService.findById(accountId).orElse(null);
-            return account != null && account.getUser() != null && 
-                   account.getUser().getEmail().equals(userEmail);
+            return ownershipIndex.isOwnedBy(accountId, currentUserId(authentication));
         }
 
         return false;
@@ -43,13 +44,16 @@ class AccountSecurityEvaluator {
         }
 
         if (hasRole(authentication, UserRole.SALESPERSON)) {
-            String userEmail = authentication.getName();
-            return userService.getUserById(userId).getEmail().equals(userEmail);
+            return userId != null && userId.equals(currentUserId(authentication));
         }
 
         return false;
     }
 
+    private Long currentUserId(Authentication authentication) {
+        return principalCache.resolve(authentication).getId();
+    }
+
     private boolean hasRole(Authentication authentication, UserRole role) {
         return authentication.getAuthorities().contains(
             new SimpleGrantedAuthority("ROLE_" + role.name())
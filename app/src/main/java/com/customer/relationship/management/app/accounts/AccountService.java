@@ -1,20 +1,21 @@
 package com.customer.relationship.management.app.accounts;
 
 import com.customer.relationship.management.app.users.User;
-import com.customer.relationship.management.app.teams.Team;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 class AccountService {
 
     private final AccountRepository accountRepository;
-    private final CompanyRepository companyRepository;
+    private final CompanyDictionary companyDictionary;
 
     public List<AccountInfo> findAll() {
         return accountRepository.findAllBy();
@@ -24,6 +25,7 @@ class AccountService {
         return accountRepository.findById(id);
     }
 
+    @Transactional
     public Account createAccount(CreateAccountDTO createAccountDTO, User user) {
         Account account = new Account();
         account.setUser(user);
@@ -34,11 +36,7 @@ class AccountService {
         account.setAccountStatus(createAccountDTO.getAccountStatus());
         account.setPhoneNumber(createAccountDTO.getPhoneNumber());
         if (createAccountDTO.getCompanyName() != null || createAccountDTO.getIndustry() != null) {
-            Company company = new Company();
-            company.setName(createAccountDTO.getCompanyName());
-            company.setIndustry(createAccountDTO.getIndustry());
-            company = companyRepository.save(company);
-            account.setCompany(company);
+            account.setCompany(companyDictionary.resolve(createAccountDTO.getCompanyName(), createAccountDTO.getIndustry()));
         }
         return accountRepository.save(account);
     }
@@ -50,7 +48,7 @@ class AccountService {
         existing.setPhoneNumber(updateAccountDTO.getPhoneNumber());
         existing.setAccountStatus(updateAccountDTO.getAccountStatus());
         if (updateAccountDTO.getCompanyName() != null || updateAccountDTO.getIndustry() != null) {
-            companyRepository.findByNameAndIndustry(updateAccountDTO.getCompanyName(), updateAccountDTO.getIndustry()).ifPresent(
+            companyDictionary.find(updateAccountDTO.getCompanyName(), updateAccountDTO.getIndustry()).ifPresent(
                     existing::setCompany
             );
         }
@@ -76,11 +74,22 @@ class AccountService {
         return accountRepository.findAllByAccountStatusAndUserId(accountStatus, userId);
     }
 
-    public List<Account> getAccountsByUser(User user) {
-        return accountRepository.findByUser(user);
+    /**
+     * Must be consumed inside a transaction, see {@link com.customer.relationship.management.app.config.web.StreamingExporter}.
+     */
+    public Stream<AccountInfo> streamAll() {
+        return accountRepository.streamAllByOrderByIdAsc();
     }
 
-    public List<Account> getAccountsByTeam(Team team) {
-        return accountRepository.findByUserTeam(team);
+    public Stream<AccountInfo> streamAllByUserId(Long userId) {
+        return accountRepository.streamAllByUserIdOrderByIdAsc(userId);
+    }
+
+    public List<Account> getAccountsByUserId(Long userId) {
+        return accountRepository.findByUserId(userId);
+    }
+
+    public List<Account> getAccountsByTeamId(Long teamId) {
+        return accountRepository.findByUserTeamId(teamId);
     }
 }
\ No newline at end of file
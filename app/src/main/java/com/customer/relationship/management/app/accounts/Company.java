@@ -3,11 +3,19 @@ package com.customer.relationship.management.app.accounts;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "companies")
 @Getter
 @Setter
-@Table(name = "companies")
+@EntityListeners(CompanyDictionaryListener.class)
+@Table(
+        name = "companies",
+        uniqueConstraints = @UniqueConstraint(name = "uk_companies_name_industry", columnNames = {"name", "industry"})
+)
 public class Company {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
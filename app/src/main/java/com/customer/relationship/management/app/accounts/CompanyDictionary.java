@@ -0,0 +1,153 @@
+package com.customer.relationship.management.app.accounts;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Resolves a company by its normalised (name, industry) pair, creating it on first use. Known pairs are
+ * kept in a size-bounded cache, so attaching a company to an account usually needs no select at all. The
+ * unique constraint on {@code companies} settles races between requests inserting the same company.
+ * <p>
+ * The insert joins the caller's transaction instead of borrowing a second connection for its own, and a new
+ * company is only cached once that transaction commits.
+ */
+@Component
+class CompanyDictionary {
+
+    private final CompanyRepository companyRepository;
+    private final Cache<Key, Long> ids;
+    // reverse index so a changed company can be evicted without scanning the cache
+    private final ConcurrentMap<Long, Key> keys = new ConcurrentHashMap<>();
+
+    CompanyDictionary(CompanyRepository companyRepository,
+                      @Value("${crm.companies.dictionary.maximum-size:100000}") int maximumSize) {
+        this.companyRepository = companyRepository;
+        this.ids = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .<Key, Long>evictionListener((key, id, cause) -> keys.remove(id, key))
+                .build();
+    }
+
+    /**
+     * Returns the company with this name and industry, inserting it in the caller's transaction if it does
+     * not exist yet.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    Company resolve(String name, String industry) {
+        Key key = Key.of(name, industry);
+        if (key == null) {
+            throw new IllegalArgumentException("Company name and industry are both required");
+        }
+        Long id = ids.getIfPresent(key);
+        if (id == null) {
+            id = companyRepository.findIdByNameAndIndustry(key.name(), key.industry()).orElse(null);
+            if (id != null) {
+                remember(key, id);
+            } else {
+                id = insert(key);
+            }
+        }
+        return detached(id, key);
+    }
+
+    /**
+     * Looks the company up without creating it.
+     */
+    Optional<Company> find(String name, String industry) {
+        Key key = Key.of(name, industry);
+        if (key == null) {
+            return Optional.empty();
+        }
+        Long id = ids.getIfPresent(key);
+        if (id == null) {
+            id = companyRepository.findIdByNameAndIndustry(key.name(), key.industry()).orElse(null);
+            if (id == null) {
+                return Optional.empty();
+            }
+            remember(key, id);
+        }
+        return Optional.of(detached(id, key));
+    }
+
+    void evict(Long companyId) {
+        Key key = keys.remove(companyId);
+        if (key != null) {
+            ids.invalidate(key);
+        }
+    }
+
+    private Long insert(Key key) {
+        Optional<Long> inserted = companyRepository.insertIfAbsent(key.name(), key.industry());
+        if (inserted.isPresent()) {
+            Long id = inserted.get();
+            afterCommit(() -> remember(key, id));
+            return id;
+        }
+        // another request inserted the same company after our lookup
+        Long id = companyRepository.findIdByNameAndIndustry(key.name(), key.industry())
+                .orElseThrow(() -> new IllegalStateException("Company " + key + " vanished after a duplicate insert"));
+        remember(key, id);
+        return id;
+    }
+
+    private void remember(Key key, Long id) {
+        keys.put(id, key);
+        ids.put(key, id);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * A fresh detached instance per call: callers only need it as the target of a foreign key, and
+     * nothing is shared between persistence contexts.
+     */
+    private static Company detached(Long id, Key key) {
+        Company company = Company.of(key.name(), key.industry());
+        company.setId(id);
+        return company;
+    }
+
+    record Key(String name, String industry) {
+
+        /**
+         * Trims and collapses inner whitespace; returns {@code null} unless both parts are present.
+         */
+        static Key of(String name, String industry) {
+            String normalisedName = normalise(name);
+            String normalisedIndustry = normalise(industry);
+            if (normalisedName == null || normalisedIndustry == null) {
+                return null;
+            }
+            return new Key(normalisedName, normalisedIndustry);
+        }
+
+        private static String normalise(String value) {
+            if (value == null) {
+                return null;
+            }
+            String normalised = value.trim().replaceAll("\\s+", " ");
+            return normalised.isEmpty() ? null : normalised;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.customer.relationship.management.app.accounts;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Drops changed or deleted companies from the {@link CompanyDictionary}. Hibernate creates it through
+ * Spring's bean container, which supplies the dictionary.
+ */
+class CompanyDictionaryListener {
+
+    private final CompanyDictionary companyDictionary;
+
+    CompanyDictionaryListener(CompanyDictionary companyDictionary) {
+        this.companyDictionary = companyDictionary;
+    }
+
+    @PostUpdate
+    @PostRemove
+    void onChange(Company company) {
+        companyDictionary.evict(company.getId());
+    }
+}
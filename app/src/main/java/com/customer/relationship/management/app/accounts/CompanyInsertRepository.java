@@ -0,0 +1,18 @@
+package com.customer.relationship.management.app.accounts;
+
+import java.util.Optional;
+
+/**
+ * Inserts companies with plain JDBC in the caller's transaction, so a name that is already taken does not
+ * leave the transaction rollback-only the way a failed {@code save} would.
+ */
+interface CompanyInsertRepository {
+
+    /**
+     * Must run inside a transaction. A concurrent insert of the same company makes this wait until the
+     * other transaction ends.
+     *
+     * @return the id of the new company, or empty if one with this name and industry already exists
+     */
+    Optional<Long> insertIfAbsent(String name, String industry);
+}
@@ -0,0 +1,48 @@
+package com.customer.relationship.management.app.accounts;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Savepoint;
+import java.util.Optional;
+
+class CompanyInsertRepositoryImpl implements CompanyInsertRepository {
+
+    private static final String INSERT_COMPANY = "INSERT INTO companies (name, industry) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    CompanyInsertRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<Long> insertIfAbsent(String name, String industry) {
+        // rolled back to on a duplicate, since PostgreSQL refuses further statements after a failed one
+        Savepoint savepoint = jdbcTemplate.execute((ConnectionCallback<Savepoint>) connection -> connection.setSavepoint());
+        KeyHolder keys = new GeneratedKeyHolder();
+        try {
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(INSERT_COMPANY, new String[]{"id"});
+                statement.setString(1, name);
+                statement.setString(2, industry);
+                return statement;
+            }, keys);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                connection.rollback(savepoint);
+                return null;
+            });
+            return Optional.empty();
+        }
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            connection.releaseSavepoint(savepoint);
+            return null;
+        });
+        return Optional.of(keys.getKey().longValue());
+    }
+}
@@ -1,9 +1,22 @@
 package com.customer.relationship.management.app.accounts;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
-public interface CompanyRepository extends JpaRepository<Company, Long> {
+public interface CompanyRepository extends JpaRepository<Company, Long>, CompanyInsertRepository {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Company> findByNameAndIndustry(String name, String industry);
+
+    /**
+     * Not query-cached: companies inserted through {@link CompanyInsertRepository} bypass Hibernate, so a cached
+     * "no such company" would outlive the insert. {@link CompanyDictionary} caches the ids itself.
+     */
+    @Query("SELECT c.id FROM Company c WHERE c.name = :name AND c.industry = :industry")
+    Optional<Long> findIdByNameAndIndustry(@Param("name") String name, @Param("industry") String industry);
 }
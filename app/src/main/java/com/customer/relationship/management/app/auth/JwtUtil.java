@@ -1,21 +1,56 @@
 package com.customer.relationship.management.app.auth;
 
 import com.customer.relationship.management.app.users.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Issues and verifies the API tokens. Verified tokens are remembered by their SHA-256 digest until
+ * they expire, so a client sending the same token on every request is only checked once; a
+ * {@code crm.security.token-cache.maximum-size} of 0 turns this off. Returned claims may be shared
+ * between requests and must not be modified.
+ */
 @Component
 public class JwtUtil {
     private static final long EXPIRATION_TIME = 864_000_000; // 10 days
+    private static final long DEFAULT_TOKEN_CACHE_SIZE = 10_000;
+
     private final Key key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+    private final JwtParser parser = Jwts.parserBuilder().setSigningKey(key).build();
+    private final Cache<String, Claims> verifiedTokens;
+
+    public JwtUtil() {
+        this(DEFAULT_TOKEN_CACHE_SIZE);
+    }
+
+    @Autowired
+    public JwtUtil(@Value("${crm.security.token-cache.maximum-size:10000}") long tokenCacheSize) {
+        this.verifiedTokens = tokenCacheSize > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(tokenCacheSize)
+                        .expireAfter(new UntilTokenExpires())
+                        .build()
+                : null;
+    }
 
     public String generateToken(User user) {
         Map<String, Object> claims = new HashMap<>();
@@ -37,10 +72,45 @@ public class JwtUtil {
             throw new RuntimeException("Invalid token format");
         }
 
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(authHeader.replace("Bearer ", ""))
-                .getBody();
+        String token = authHeader.replace("Bearer ", "");
+        if (verifiedTokens == null) {
+            return parse(token);
+        }
+        return verifiedTokens.get(digest(token), digest -> parse(token));
+    }
+
+    private Claims parse(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class UntilTokenExpires implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0;
+            }
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiration.getTime() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String digest, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-} 
\ No newline at end of file
+}
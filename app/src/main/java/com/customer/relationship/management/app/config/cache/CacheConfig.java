@@ -0,0 +1,67 @@
+package com.customer.relationship.management.app.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.time.YearMonth;
+
+/**
+ * Report caches are keyed by {@link YearMonth}. A month that has ended can no longer change, so its
+ * entries stay until evicted by size; the current month expires after a short TTL and is also
+ * evicted whenever a sale is recorded.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String SALES_RANKING = "salesRanking";
+    public static final String TEAM_SALES_REPORT = "teamSalesReport";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${crm.cache.reports.maximum-size:500}") long maximumSize,
+            @Value("${crm.cache.reports.open-period-ttl:PT1M}") Duration openPeriodTtl
+    ) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(SALES_RANKING, reportCache(maximumSize, openPeriodTtl));
+        cacheManager.registerCustomCache(TEAM_SALES_REPORT, reportCache(maximumSize, openPeriodTtl));
+        return cacheManager;
+    }
+
+    private static com.github.benmanes.caffeine.cache.Cache<Object, Object> reportCache(long maximumSize,
+                                                                                      Duration openPeriodTtl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ReportPeriodExpiry(openPeriodTtl))
+                .recordStats()
+                .build();
+    }
+
+    private record ReportPeriodExpiry(Duration openPeriodTtl) implements Expiry<Object, Object> {
+
+        @Override
+        public long expireAfterCreate(Object key, Object value, long currentTime) {
+            if (key instanceof YearMonth period && period.isBefore(YearMonth.now())) {
+                return Long.MAX_VALUE;
+            }
+            return openPeriodTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.customer.relationship.management.app.config.cache;
+
+import com.customer.relationship.management.app.sales.SaleClosedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Evicts report cache entries whose data changed. Closed months are cached without expiry, so anything
+ * rewriting the rollup (a sale, a rebuild, deleting a user) must go through here. Evictions requested inside a
+ * transaction run after it commits, so a concurrent read cannot re-cache the old rows.
+ */
+@Component
+public class ReportCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    ReportCacheInvalidator(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Evicts the months the booked sales closed in.
+     */
+    public void evictSales(List<SaleClosedEvent> events) {
+        events.stream()
+                .map(event -> YearMonth.from(event.closeDate()))
+                .distinct()
+                .forEach(period -> evictMonths(period, period.plusMonths(1)));
+    }
+
+    /**
+     * Evicts the months in {@code [from, to)}.
+     */
+    public void evictMonths(YearMonth from, YearMonth to) {
+        afterCommit(() -> {
+            for (YearMonth period = from; period.isBefore(to); period = period.plusMonths(1)) {
+                evict(CacheConfig.SALES_RANKING, period);
+                evict(CacheConfig.TEAM_SALES_REPORT, period);
+            }
+        });
+    }
+
+    public void evictAll() {
+        afterCommit(() -> {
+            clear(CacheConfig.SALES_RANKING);
+            clear(CacheConfig.TEAM_SALES_REPORT);
+        });
+    }
+
+    private void evict(String cacheName, YearMonth period) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(period);
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private static void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,110 @@
+package com.customer.relationship.management.app.config.database;
+
+import com.customer.relationship.management.app.config.database.generator.BatchWriter;
+import com.customer.relationship.management.app.leads.LeadStatus;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Load-testing volumes of sales and leads, written straight through JDBC batches. Rows are generated
+ * while the statement is being filled, so nothing but the current batch is held in memory, and the
+ * entity layer (with its IDENTITY keys that disable Hibernate batching) is bypassed entirely.
+ */
+@Component
+@Log4j2
+class BulkSeeder {
+
+    private static final String INSERT_SALE =
+            "INSERT INTO sales (sales_rep_id, amount, close_date) VALUES (?, ?, ?)";
+    private static final String INSERT_LEAD =
+            "INSERT INTO leads (description, status, account_id, estimated_value, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final long salesCount;
+    private final long leadsCount;
+    private final int months;
+    private final int batchSize;
+
+    BulkSeeder(JdbcTemplate jdbcTemplate,
+               @Value("${crm.seed.bulk.enabled:false}") boolean enabled,
+               @Value("${crm.seed.bulk.sales:1000000}") long salesCount,
+               @Value("${crm.seed.bulk.leads:1000000}") long leadsCount,
+               @Value("${crm.seed.bulk.months:36}") int months,
+               @Value("${crm.seed.bulk.batch-size:5000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.salesCount = salesCount;
+        this.leadsCount = leadsCount;
+        this.months = months;
+        this.batchSize = batchSize;
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    void seed(List<Long> salesRepIds, List<Long> accountIds) {
+        long start = System.nanoTime();
+        insertSales(salesRepIds);
+        insertLeads(accountIds);
+        log.info("Bulk seeded {} sales and {} leads in {} ms",
+                salesCount, leadsCount, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void insertSales(List<Long> salesRepIds) {
+        if (salesRepIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime end = LocalDateTime.now();
+        long spanMinutes = (long) months * 30 * 24 * 60;
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (BatchWriter sales = new BatchWriter(connection, INSERT_SALE, batchSize)) {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (long i = 0; i < salesCount; i++) {
+                    sales.write(
+                            salesRepIds.get((int) (i % salesRepIds.size())),
+                            BigDecimal.valueOf(random.nextLong(1_000_000, 10_000_000), 2),
+                            end.minusMinutes(random.nextLong(spanMinutes))
+                    );
+                }
+            }
+            return null;
+        });
+    }
+
+    private void insertLeads(List<Long> accountIds) {
+        if (accountIds.isEmpty()) {
+            return;
+        }
+        LeadStatus[] statuses = LeadStatus.values();
+        LocalDateTime now = LocalDateTime.now();
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (BatchWriter leads = new BatchWriter(connection, INSERT_LEAD, batchSize)) {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (long i = 0; i < leadsCount; i++) {
+                    leads.write(
+                            "Bulk lead " + i,
+                            statuses[random.nextInt(statuses.length)].name(),
+                            accountIds.get((int) (i % accountIds.size())),
+                            BigDecimal.valueOf(random.nextLong(500_000, 2_000_000), 2),
+                            now,
+                            now
+                    );
+                }
+            }
+            return null;
+        });
+    }
+}
@@ -6,6 +6,7 @@ import com.customer.relationship.management.app.leads.LeadRepository;
 import com.customer.relationship.management.app.leads.LeadStatus;
 import com.customer.relationship.management.app.sales.Sale;
 import com.customer.relationship.management.app.sales.SaleRepository;
+import com.customer.relationship.management.app.sales.SalesRollupService;
 import com.customer.relationship.management.app.teams.Team;
 import com.customer.relationship.management.app.teams.TeamRepository;
 import com.customer.relationship.management.app.users.User;
@@ -13,16 +14,21 @@ import com.customer.relationship.management.app.users.UserRepository;
 import com.customer.relationship.management.app.users.UserRole;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 @Component
 @Profile("!test")
+// demo data first; LoadGenerator runs at LOWEST_PRECEDENCE on top of it
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class DatabaseInitializer implements CommandLineRunner {
 
     private final UserRepository userRepository;
@@ -32,9 +38,12 @@ public class DatabaseInitializer implements CommandLineRunner {
     private final SaleRepository saleRepository;
     private final LeadRepository leadRepository;
     private final CompanyRepository companyRepository;
+    private final SalesRollupService salesRollupService;
+    private final BulkSeeder bulkSeeder;
 
     public DatabaseInitializer(UserRepository userRepository, PasswordEncoder passwordEncoder, TeamRepository teamRepository,
-                               AccountRepository accountRepository, SaleRepository saleRepository, LeadRepository leadRepository, CompanyRepository companyRepository) {
+                               AccountRepository accountRepository, SaleRepository saleRepository, LeadRepository leadRepository, CompanyRepository companyRepository,
+                               SalesRollupService salesRollupService, BulkSeeder bulkSeeder) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.teamRepository = teamRepository;
@@ -42,7 +51,8 @@ public class DatabaseInitializer implements CommandLineRunner {
         this.saleRepository = saleRepository;
         this.leadRepository = leadRepository;
         this.companyRepository = companyRepository;
-
+        this.salesRollupService = salesRollupService;
+        this.bulkSeeder = bulkSeeder;
     }
 
     @Override
@@ -121,7 +131,14 @@ public class DatabaseInitializer implements CommandLineRunner {
 
         List<User> salesRep = userRepository.saveAll(Arrays.asList(salesRep1, salesRep2, salesRep3, salesRep4, salesRep5, salesRep6, salesRep7, salesRep8, salesRep9, salesRep10, salesRep11, salesRep12));
         generateFullSalesData(salesRep);
-        generateAccountsAndLeadsForSalesReps(salesRep, companies);
+        List<Account> accounts = generateAccountsAndLeadsForSalesReps(salesRep, companies);
+        if (bulkSeeder.isEnabled()) {
+            bulkSeeder.seed(
+                    salesRep.stream().map(User::getId).toList(),
+                    accounts.stream().map(Account::getId).toList()
+            );
+        }
+        salesRollupService.rebuild();
 
 
         userRepository.saveAll(users);
@@ -150,16 +167,17 @@ public class DatabaseInitializer implements CommandLineRunner {
         return team;
     }
 
-    private void createSale(User salesRep, double amount,
+    private Sale createSale(User salesRep, double amount,
                             LocalDateTime closeDate) {
         Sale sale = new Sale();
         sale.setSalesRep(salesRep);
         sale.setAmount(BigDecimal.valueOf(amount));
         sale.setCloseDate(closeDate);
-        saleRepository.save(sale);
+        return sale;
     }
 
     private void generateFullSalesData(List<User> salesReps) {
+        List<Sale> sales = new ArrayList<>();
         int startYear = 2024;
         int endYear = 2025;
 
@@ -170,11 +188,12 @@ public class DatabaseInitializer implements CommandLineRunner {
 
                 for (int month = startMonth; month <= endMonth; month++) {
                     // 2 transakcje na miesiąc
-                    createSale(salesRep, randomAmount(), randomDateTimeInMonth(year, month));
-                    createSale(salesRep, randomAmount(), randomDateTimeInMonth(year, month));
+                    sales.add(createSale(salesRep, randomAmount(), randomDateTimeInMonth(year, month)));
+                    sales.add(createSale(salesRep, randomAmount(), randomDateTimeInMonth(year, month)));
                 }
             }
         }
+        saleRepository.saveAll(sales);
     }
 
     // Zwraca losową kwotę między 10 000 a 100 000
@@ -189,7 +208,9 @@ public class DatabaseInitializer implements CommandLineRunner {
         int minute = (int) (Math.random() * 60);
         return LocalDateTime.of(year, month, day, hour, minute);
     }
-    private void generateAccountsAndLeadsForSalesReps(List<User> salesReps, List<Company> companies) {
+    private List<Account> generateAccountsAndLeadsForSalesReps(List<User> salesReps, List<Company> companies) {
+        List<Account> accounts = new ArrayList<>();
+        List<Lead> leads = new ArrayList<>();
         for (User rep : salesReps) {
             for (int i = 1; i <= 5; i++) {
                 Account account = new Account();
@@ -202,7 +223,7 @@ public class DatabaseInitializer implements CommandLineRunner {
                 Company company = companies.get((int) (Math.random() * companies.size()));
                 account.setCompany(company);
 
-                accountRepository.save(account);
+                accounts.add(account);
 
                 for (int j = 1; j <= 3; j++) {
                     Lead lead = new Lead();
@@ -214,10 +235,13 @@ public class DatabaseInitializer implements CommandLineRunner {
                     LeadStatus[] statuses = LeadStatus.values();
                     lead.setStatus(statuses[(int) (Math.random() * statuses.length)]);
 
-                    leadRepository.save(lead);
+                    leads.add(lead);
                 }
             }
         }
+        accountRepository.saveAll(accounts);
+        leadRepository.saveAll(leads);
+        return accounts;
     }
 
 
@@ -0,0 +1,53 @@
+package com.customer.relationship.management.app.config.database.generator;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Streams rows into a prepared INSERT, executing the JDBC batch every {@code batchSize} rows.
+ * Only the pending batch is ever buffered; {@link #close()} flushes the remainder.
+ */
+public final class BatchWriter implements AutoCloseable {
+
+    private final PreparedStatement statement;
+    private final int batchSize;
+    private int pending;
+    private long written;
+
+    public BatchWriter(Connection connection, String sql, int batchSize) throws SQLException {
+        this.statement = connection.prepareStatement(sql);
+        this.batchSize = batchSize;
+    }
+
+    public void write(Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            statement.setObject(i + 1, values[i]);
+        }
+        statement.addBatch();
+        if (++pending == batchSize) {
+            flush();
+        }
+    }
+
+    public long written() {
+        return written;
+    }
+
+    private void flush() throws SQLException {
+        if (pending > 0) {
+            statement.executeBatch();
+            written += pending;
+            pending = 0;
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            flush();
+        } finally {
+            statement.close();
+        }
+    }
+}
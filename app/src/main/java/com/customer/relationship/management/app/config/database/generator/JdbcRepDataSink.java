@@ -0,0 +1,86 @@
+package com.customer.relationship.management.app.config.database.generator;
+
+import com.customer.relationship.management.app.accounts.AccountStatus;
+import com.customer.relationship.management.app.leads.LeadStatus;
+import com.customer.relationship.management.app.notes.NoteType;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+
+/**
+ * Writes one rep's rows over a dedicated connection. Accounts are inserted one by one because their
+ * generated ids are needed by the leads and notes that follow; everything else goes through batches.
+ */
+class JdbcRepDataSink implements RepDataSink, AutoCloseable {
+
+    private static final String INSERT_ACCOUNT =
+            "INSERT INTO accounts (user_id, first_name, last_name, email, account_status, phone_number, company_id) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_LEAD =
+            "INSERT INTO leads (description, status, account_id, estimated_value, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_NOTE =
+            "INSERT INTO notes (content, note_type, account_id, note_date, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SALE =
+            "INSERT INTO sales (sales_rep_id, amount, close_date) VALUES (?, ?, ?)";
+
+    private final long salesRepId;
+    private final PreparedStatement accounts;
+    private final BatchWriter leads;
+    private final BatchWriter notes;
+    private final BatchWriter sales;
+
+    JdbcRepDataSink(Connection connection, long salesRepId, int batchSize) throws SQLException {
+        this.salesRepId = salesRepId;
+        this.accounts = connection.prepareStatement(INSERT_ACCOUNT, Statement.RETURN_GENERATED_KEYS);
+        this.leads = new BatchWriter(connection, INSERT_LEAD, batchSize);
+        this.notes = new BatchWriter(connection, INSERT_NOTE, batchSize);
+        this.sales = new BatchWriter(connection, INSERT_SALE, batchSize);
+    }
+
+    @Override
+    public long account(String firstName, String lastName, String email, String phoneNumber,
+                        AccountStatus status, long companyId) throws SQLException {
+        accounts.setLong(1, salesRepId);
+        accounts.setString(2, firstName);
+        accounts.setString(3, lastName);
+        accounts.setString(4, email);
+        accounts.setString(5, status.name());
+        accounts.setString(6, phoneNumber);
+        accounts.setLong(7, companyId);
+        accounts.executeUpdate();
+        try (ResultSet keys = accounts.getGeneratedKeys()) {
+            keys.next();
+            return keys.getLong(1);
+        }
+    }
+
+    @Override
+    public void lead(long accountId, String description, LeadStatus status, BigDecimal estimatedValue,
+                     LocalDateTime createdAt) throws SQLException {
+        leads.write(description, status.name(), accountId, estimatedValue, createdAt, createdAt);
+    }
+
+    @Override
+    public void note(long accountId, String content, NoteType type, LocalDateTime noteDate) throws SQLException {
+        notes.write(content, type.name(), accountId, noteDate, noteDate, noteDate);
+    }
+
+    @Override
+    public void sale(BigDecimal amount, LocalDateTime closeDate) throws SQLException {
+        sales.write(salesRepId, amount, closeDate);
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try (accounts; leads; notes; sales) {
+            // closing the writers flushes their pending batches
+        }
+    }
+}
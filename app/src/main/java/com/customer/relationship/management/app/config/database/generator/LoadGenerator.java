@@ -0,0 +1,142 @@
+package com.customer.relationship.management.app.config.database.generator;
+
+import com.customer.relationship.management.app.sales.SalesRollupService;
+import com.customer.relationship.management.app.users.UserRole;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generates a synthetic data set described by {@link LoadProfile} on startup, after the demo data.
+ * Enable with {@code crm.generator.enabled=true}, e.g.
+ * {@code ./gradlew bootRun --args='--crm.generator.enabled=true --crm.generator.teams=50'}.
+ * <p>
+ * Teams, reps and companies are written first; every rep then gets its own split of the seeded
+ * random and is generated on a worker thread that streams its rows through JDBC batches.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@ConditionalOnProperty(name = "crm.generator.enabled", havingValue = "true")
+@EnableConfigurationProperties(LoadProfile.class)
+@Log4j2
+public class LoadGenerator implements CommandLineRunner {
+
+    private static final String REP_PASSWORD = "password123";
+
+    private final LoadProfile profile;
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final SalesRollupService salesRollupService;
+
+    public LoadGenerator(LoadProfile profile, JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder,
+                         SalesRollupService salesRollupService) {
+        this.profile = profile;
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+        this.salesRollupService = salesRollupService;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        long start = System.nanoTime();
+
+        List<Long> companyIds = insertCompanies();
+        List<Long> teamIds = insertTeams();
+        List<Long> repIds = insertReps(teamIds);
+        generateRepData(repIds, companyIds);
+        salesRollupService.rebuild();
+
+        log.info("Generated load profile {} in {} ms", profile, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private List<Long> insertCompanies() {
+        List<Object[]> companies = new ArrayList<>();
+        for (int i = 0; i < profile.companies(); i++) {
+            companies.add(new Object[]{"Load company " + i, "Industry " + i % 20});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO companies (name, industry) VALUES (?, ?)", companies);
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM companies WHERE name LIKE 'Load company %' ORDER BY id", Long.class);
+    }
+
+    private List<Long> insertTeams() {
+        List<Object[]> teams = new ArrayList<>();
+        for (int i = 0; i < profile.teams(); i++) {
+            teams.add(new Object[]{"Load team " + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO teams (name) VALUES (?)", teams);
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM teams WHERE name LIKE 'Load team %' ORDER BY id", Long.class);
+    }
+
+    private List<Long> insertReps(List<Long> teamIds) {
+        String password = passwordEncoder.encode(REP_PASSWORD);
+        List<Object[]> reps = new ArrayList<>();
+        for (int i = 0; i < profile.reps(); i++) {
+            reps.add(new Object[]{
+                    "Rep" + i, "Load", "load-rep-" + i + "@example.com", password,
+                    UserRole.SALESPERSON.name(), teamIds.get(i / profile.repsPerTeam())
+            });
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO users (first_name, last_name, email, password, role, team_id, position, active, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, 'Sales', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                reps
+        );
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE email LIKE 'load-rep-%' ORDER BY id", Long.class);
+    }
+
+    private void generateRepData(List<Long> repIds, List<Long> companyIds) throws InterruptedException, ExecutionException {
+        LocalDateTime end = profile.effectiveEndDate().atStartOfDay();
+
+        // split sequentially so each rep's stream depends only on the seed and its index
+        SplittableRandom root = new SplittableRandom(profile.seed());
+        List<SplittableRandom> repRandoms = new ArrayList<>(repIds.size());
+        for (int i = 0; i < repIds.size(); i++) {
+            repRandoms.add(root.split());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(profile.effectiveParallelism());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < repIds.size(); i++) {
+                int repIndex = i;
+                futures.add(executor.submit(() -> jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                    writeRep(connection, repIndex, repIds.get(repIndex), companyIds, end, repRandoms.get(repIndex));
+                    return null;
+                })));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void writeRep(Connection connection, int repIndex, long repId, List<Long> companyIds,
+                          LocalDateTime end, SplittableRandom random) throws SQLException {
+        try (JdbcRepDataSink sink = new JdbcRepDataSink(connection, repId, profile.batchSize())) {
+            RepDataGenerator.generate(profile, repIndex, companyIds, end, random, sink);
+        }
+    }
+}
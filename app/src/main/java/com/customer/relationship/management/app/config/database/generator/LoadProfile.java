@@ -0,0 +1,52 @@
+package com.customer.relationship.management.app.config.database.generator;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.LocalDate;
+
+/**
+ * Shape of the data set produced by {@link LoadGenerator}. The same profile and {@code seed}
+ * always produce the same rows; {@code endDate} anchors the sales history and defaults to today.
+ */
+@ConfigurationProperties("crm.generator")
+public record LoadProfile(
+        @DefaultValue("42") long seed,
+        @DefaultValue("10") int teams,
+        @DefaultValue("10") int repsPerTeam,
+        @DefaultValue("200") int companies,
+        @DefaultValue("20") int accountsPerRep,
+        @DefaultValue("5") int leadsPerAccount,
+        @DefaultValue("3") int notesPerAccount,
+        @DefaultValue("24") int monthsOfSales,
+        @DefaultValue("20") int salesPerRepPerMonth,
+        LocalDate endDate,
+        @DefaultValue("0") int parallelism,
+        @DefaultValue("5000") int batchSize
+) {
+
+    public LoadProfile {
+        if (teams < 1 || repsPerTeam < 1 || companies < 1) {
+            throw new IllegalArgumentException("teams, repsPerTeam and companies must be positive");
+        }
+        if (accountsPerRep < 0 || leadsPerAccount < 0 || notesPerAccount < 0
+                || monthsOfSales < 0 || salesPerRepPerMonth < 0) {
+            throw new IllegalArgumentException("Row counts must not be negative");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+    }
+
+    public int reps() {
+        return teams * repsPerTeam;
+    }
+
+    public LocalDate effectiveEndDate() {
+        return endDate != null ? endDate : LocalDate.now();
+    }
+
+    public int effectiveParallelism() {
+        return parallelism > 0 ? parallelism : Math.min(Runtime.getRuntime().availableProcessors(), 8);
+    }
+}
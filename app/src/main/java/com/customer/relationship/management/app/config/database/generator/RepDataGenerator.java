@@ -0,0 +1,79 @@
+package com.customer.relationship.management.app.config.database.generator;
+
+import com.customer.relationship.management.app.accounts.AccountStatus;
+import com.customer.relationship.management.app.leads.LeadStatus;
+import com.customer.relationship.management.app.notes.NoteType;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generates everything owned by a single sales rep. All values come from the rep's own
+ * {@link SplittableRandom}, so reps can be generated in any order or in parallel and still
+ * produce the same data for the same seed.
+ */
+final class RepDataGenerator {
+
+    private static final AccountStatus[] ACCOUNT_STATUSES = AccountStatus.values();
+    private static final LeadStatus[] LEAD_STATUSES = LeadStatus.values();
+    private static final NoteType[] NOTE_TYPES = NoteType.values();
+
+    private RepDataGenerator() {
+    }
+
+    static void generate(LoadProfile profile, int repIndex, List<Long> companyIds, LocalDateTime end,
+                         SplittableRandom random, RepDataSink sink) throws SQLException {
+        long historyMinutes = Math.max(1, Duration.between(end.minusMonths(Math.max(1, profile.monthsOfSales())), end).toMinutes());
+
+        for (int a = 0; a < profile.accountsPerRep(); a++) {
+            String client = repIndex + "-" + a;
+            long accountId = sink.account(
+                    "Client" + a,
+                    "Rep" + repIndex,
+                    "load-client-" + client + "@example.com",
+                    String.format("5%08d", random.nextInt(100_000_000)),
+                    ACCOUNT_STATUSES[random.nextInt(ACCOUNT_STATUSES.length)],
+                    companyIds.get(random.nextInt(companyIds.size()))
+            );
+
+            for (int l = 0; l < profile.leadsPerAccount(); l++) {
+                sink.lead(
+                        accountId,
+                        "Load lead " + l + " for client " + client,
+                        LEAD_STATUSES[random.nextInt(LEAD_STATUSES.length)],
+                        amount(random, 5_000, 20_000),
+                        end.minusMinutes(random.nextLong(historyMinutes))
+                );
+            }
+            for (int n = 0; n < profile.notesPerAccount(); n++) {
+                sink.note(
+                        accountId,
+                        "Load note " + n + " for client " + client,
+                        NOTE_TYPES[random.nextInt(NOTE_TYPES.length)],
+                        end.minusMinutes(random.nextLong(historyMinutes))
+                );
+            }
+        }
+
+        YearMonth lastMonth = YearMonth.from(end);
+        for (int m = 0; m < profile.monthsOfSales(); m++) {
+            YearMonth month = lastMonth.minusMonths(m);
+            LocalDateTime monthStart = month.atDay(1).atStartOfDay();
+            LocalDateTime monthEnd = month.equals(lastMonth) ? end : monthStart.plusMonths(1);
+            long monthMinutes = Math.max(1, Duration.between(monthStart, monthEnd).toMinutes());
+
+            for (int s = 0; s < profile.salesPerRepPerMonth(); s++) {
+                sink.sale(amount(random, 10_000, 100_000), monthStart.plusMinutes(random.nextLong(monthMinutes)));
+            }
+        }
+    }
+
+    private static BigDecimal amount(SplittableRandom random, long min, long max) {
+        return BigDecimal.valueOf(random.nextLong(min * 100, max * 100), 2);
+    }
+}
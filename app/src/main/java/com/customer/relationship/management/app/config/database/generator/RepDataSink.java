@@ -0,0 +1,25 @@
+package com.customer.relationship.management.app.config.database.generator;
+
+import com.customer.relationship.management.app.accounts.AccountStatus;
+import com.customer.relationship.management.app.leads.LeadStatus;
+import com.customer.relationship.management.app.notes.NoteType;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * Receives the rows generated for one sales rep, in generation order.
+ */
+interface RepDataSink {
+
+    long account(String firstName, String lastName, String email, String phoneNumber,
+                 AccountStatus status, long companyId) throws SQLException;
+
+    void lead(long accountId, String description, LeadStatus status, BigDecimal estimatedValue,
+              LocalDateTime createdAt) throws SQLException;
+
+    void note(long accountId, String content, NoteType type, LocalDateTime noteDate) throws SQLException;
+
+    void sale(BigDecimal amount, LocalDateTime closeDate) throws SQLException;
+}
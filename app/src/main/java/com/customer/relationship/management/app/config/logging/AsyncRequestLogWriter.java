@@ -0,0 +1,84 @@
+package com.customer.relationship.management.app.config.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Hands request log events from request threads to a single daemon thread through a
+ * {@link MpscRingBuffer}. Request threads never wait for the appender; when the buffer is full the
+ * event is dropped and counted, and the drop count is logged by the drainer.
+ */
+final class AsyncRequestLogWriter implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncRequestLogWriter.class);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final MpscRingBuffer<RequestLogEvent> buffer;
+    private final Consumer<RequestLogEvent> sink;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread drainer;
+    private volatile boolean running = true;
+
+    AsyncRequestLogWriter(int capacity, Consumer<RequestLogEvent> sink) {
+        this.buffer = new MpscRingBuffer<>(capacity);
+        this.sink = sink;
+        this.drainer = new Thread(this::drain, "request-log-drainer");
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    void submit(RequestLogEvent event) {
+        if (!buffer.offer(event)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    long droppedEvents() {
+        return dropped.get();
+    }
+
+    private void drain() {
+        long reportedDrops = 0;
+        while (true) {
+            RequestLogEvent event = buffer.poll();
+            if (event != null) {
+                write(event);
+                continue;
+            }
+
+            long drops = dropped.get();
+            if (drops != reportedDrops) {
+                logger.warn("Request log buffer full, dropped {} events so far", drops);
+                reportedDrops = drops;
+            }
+            if (!running) {
+                return;
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+    }
+
+    private void write(RequestLogEvent event) {
+        try {
+            sink.accept(event);
+        } catch (RuntimeException e) {
+            logger.warn("Could not write request log event", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join(TimeUnit.SECONDS.toMillis(2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
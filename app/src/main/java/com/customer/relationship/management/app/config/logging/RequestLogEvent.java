@@ -0,0 +1,42 @@
+package com.customer.relationship.management.app.config.logging;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Everything needed to log one exchange, captured on the request thread. Bodies stay as the
+ * truncated raw bytes and are only decoded when the event is written.
+ */
+record RequestLogEvent(
+        String method,
+        String uri,
+        String query,
+        String headers,
+        byte[] requestBody,
+        long requestBodyLength,
+        int status,
+        long durationMs,
+        byte[] responseBody,
+        long responseBodyLength
+) {
+
+    String format() {
+        return "\n--- HTTP REQUEST ---\n" +
+                "Method: " + method + "\n" +
+                "URI: " + uri + "\n" +
+                "Query: " + query + "\n" +
+                "Headers: " + headers + "\n" +
+                "Body: " + body(requestBody, requestBodyLength) + "\n" +
+                "--- HTTP RESPONSE ---\n" +
+                "Status: " + status + "\n" +
+                "Duration: " + durationMs + "ms\n" +
+                "Body: " + body(responseBody, responseBodyLength) + "\n";
+    }
+
+    private static String body(byte[] content, long totalLength) {
+        String text = new String(content, StandardCharsets.UTF_8);
+        if (totalLength > content.length) {
+            return text + "... [truncated, " + totalLength + " bytes]";
+        }
+        return text;
+    }
+}
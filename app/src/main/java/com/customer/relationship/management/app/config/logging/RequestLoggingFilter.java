@@ -6,6 +6,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.util.ContentCachingRequestWrapper;
@@ -13,16 +15,124 @@ import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
+/**
+ * Logs HTTP exchanges according to {@code crm.logging.requests.mode}:
+ * <ul>
+ *     <li>{@code sampled} (default) logs a {@code sample-rate} fraction of requests plus every response
+ *     with a status of at least {@code always-log-status}. Bodies are cut at {@code max-body-size} bytes
+ *     while being written, and events are handed to a background thread. Async responses such as
+ *     streamed exports are logged without their body.</li>
+ *     <li>{@code full} logs every exchange synchronously with complete bodies.</li>
+ *     <li>{@code off} disables request logging.</li>
+ * </ul>
+ * Headers listed in {@code redacted-headers} are masked in both modes.
+ */
 @Component
 public class RequestLoggingFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(RequestLoggingFilter.class);
+    private static final String REDACTED = "[redacted]";
+
+    public enum Mode { OFF, FULL, SAMPLED }
+
+    private final Mode mode;
+    private final double sampleRate;
+    private final int alwaysLogStatus;
+    private final int maxBodySize;
+    private final Set<String> redactedHeaders;
+    private final AsyncRequestLogWriter asyncWriter;
+
+    @Autowired
+    public RequestLoggingFilter(
+            @Value("${crm.logging.requests.mode:sampled}") Mode mode,
+            @Value("${crm.logging.requests.sample-rate:0.1}") double sampleRate,
+            @Value("${crm.logging.requests.always-log-status:500}") int alwaysLogStatus,
+            @Value("${crm.logging.requests.max-body-size:2048}") int maxBodySize,
+            @Value("${crm.logging.requests.redacted-headers:authorization,proxy-authorization,cookie,set-cookie}") Set<String> redactedHeaders,
+            @Value("${crm.logging.requests.buffer-capacity:4096}") int bufferCapacity
+    ) {
+        this(mode, sampleRate, alwaysLogStatus, maxBodySize, redactedHeaders, bufferCapacity,
+                event -> logger.info(event.format()));
+    }
+
+    RequestLoggingFilter(Mode mode, double sampleRate, int alwaysLogStatus, int maxBodySize,
+                         Set<String> redactedHeaders, int bufferCapacity, Consumer<RequestLogEvent> sink) {
+        this.mode = mode;
+        this.sampleRate = sampleRate;
+        this.alwaysLogStatus = alwaysLogStatus;
+        this.maxBodySize = maxBodySize;
+        this.redactedHeaders = redactedHeaders.stream()
+                .map(header -> header.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        this.asyncWriter = mode == Mode.SAMPLED ? new AsyncRequestLogWriter(bufferCapacity, sink) : null;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
+        switch (mode) {
+            case OFF -> filterChain.doFilter(request, response);
+            case FULL -> logFully(request, response, filterChain);
+            case SAMPLED -> logSampled(request, response, filterChain);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (asyncWriter != null) {
+            asyncWriter.close();
+        }
+    }
+
+    private void logSampled(HttpServletRequest request,
+                            HttpServletResponse response,
+                            FilterChain filterChain) throws ServletException, IOException {
+        ContentCachingRequestWrapper wrappedRequest = new ContentCachingRequestWrapper(request, maxBodySize);
+        TruncatingResponseWrapper wrappedResponse = new TruncatingResponseWrapper(response, maxBodySize);
+
+        long startTime = System.nanoTime();
+
+        try {
+            filterChain.doFilter(wrappedRequest, wrappedResponse);
+        } finally {
+            wrappedResponse.flushWriter();
+            int status = response.getStatus();
+
+            // async bodies (e.g. StreamingResponseBody exports) keep being written on another thread
+            boolean async = request.isAsyncStarted();
+            if (async) {
+                wrappedResponse.stopCapturing();
+            }
+
+            if (status >= alwaysLogStatus || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                byte[] requestBody = wrappedRequest.getContentAsByteArray();
+                asyncWriter.submit(new RequestLogEvent(
+                        request.getMethod(),
+                        request.getRequestURI(),
+                        request.getQueryString(),
+                        getHeaders(request),
+                        requestBody,
+                        Math.max(request.getContentLengthLong(), requestBody.length),
+                        status,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime),
+                        async ? new byte[0] : wrappedResponse.capturedBody(),
+                        async ? 0 : wrappedResponse.totalBytes()
+                ));
+            }
+        }
+    }
+
+    private void logFully(HttpServletRequest request,
+                          HttpServletResponse response,
+                          FilterChain filterChain) throws ServletException, IOException {
 
         ContentCachingRequestWrapper wrappedRequest = new ContentCachingRequestWrapper(request);
         ContentCachingResponseWrapper wrappedResponse = new ContentCachingResponseWrapper(response);
@@ -74,7 +184,7 @@ public class RequestLoggingFilter extends OncePerRequestFilter {
         request.getHeaderNames().asIterator()
                 .forEachRemaining(name -> headers.append(name)
                         .append(": ")
-                        .append(request.getHeader(name))
+                        .append(redactedHeaders.contains(name.toLowerCase(Locale.ROOT)) ? REDACTED : request.getHeader(name))
                         .append("; "));
         return headers.toString();
     }
@@ -0,0 +1,147 @@
+package com.customer.relationship.management.app.config.logging;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+/**
+ * Writes the response straight through to the client while keeping a copy of at most
+ * {@code limit} bytes for logging. Unlike {@code ContentCachingResponseWrapper}, the body is never
+ * buffered in full. Capture can be switched off with {@link #stopCapturing()} once the response is
+ * handed to another thread, after which the copy is no longer read.
+ */
+final class TruncatingResponseWrapper extends HttpServletResponseWrapper {
+
+    private final int limit;
+    private final ByteArrayOutputStream captured;
+    private long totalBytes;
+    private volatile boolean capturing = true;
+    private TeeOutputStream outputStream;
+    private PrintWriter writer;
+
+    TruncatingResponseWrapper(HttpServletResponse response, int limit) {
+        super(response);
+        this.limit = limit;
+        this.captured = new ByteArrayOutputStream(Math.min(limit, 1024));
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called");
+        }
+        return teeOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            if (outputStream != null) {
+                throw new IllegalStateException("getOutputStream() has already been called");
+            }
+            writer = new PrintWriter(new OutputStreamWriter(teeOutputStream(), getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
+    }
+
+    void flushWriter() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    void stopCapturing() {
+        capturing = false;
+    }
+
+    byte[] capturedBody() {
+        return captured.toByteArray();
+    }
+
+    long totalBytes() {
+        return totalBytes;
+    }
+
+    private TeeOutputStream teeOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new TeeOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    private void capture(int b) {
+        if (!capturing) {
+            return;
+        }
+        totalBytes++;
+        if (captured.size() < limit) {
+            captured.write(b);
+        }
+    }
+
+    private void capture(byte[] bytes, int offset, int length) {
+        if (!capturing) {
+            return;
+        }
+        totalBytes += length;
+        int remaining = limit - captured.size();
+        if (remaining > 0) {
+            captured.write(bytes, offset, Math.min(length, remaining));
+        }
+    }
+
+    private final class TeeOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        private TeeOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            capture(b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            delegate.write(bytes, offset, length);
+            capture(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.customer.relationship.management.app.config.monitoring;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * Replaces Boot's auto-configured {@link JdbcTemplate} so JDBC batches count towards the request's
+ * {@link StatementBudget}.
+ */
+@Configuration
+public class JdbcMonitoringConfig {
+
+    @Bean
+    public JdbcTemplate jdbcTemplate(DataSource dataSource) {
+        return new RequestCountingJdbcTemplate(dataSource);
+    }
+}
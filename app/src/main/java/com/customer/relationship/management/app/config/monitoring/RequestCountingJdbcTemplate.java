@@ -0,0 +1,30 @@
+package com.customer.relationship.management.app.config.monitoring;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * {@link JdbcTemplate} that counts its statements into the current {@link RequestDbStats}, which the
+ * Hibernate {@link RequestStatementInspector} never sees. The SQL text is not available at this hook, so
+ * they are all reported under one {@value #STATEMENT_LABEL} entry.
+ */
+class RequestCountingJdbcTemplate extends JdbcTemplate {
+
+    static final String STATEMENT_LABEL = "<JdbcTemplate statement>";
+
+    RequestCountingJdbcTemplate(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    @Override
+    protected void applyStatementSettings(Statement stmt) throws SQLException {
+        super.applyStatementSettings(stmt);
+        RequestDbStats stats = RequestDbStats.current();
+        if (stats != null) {
+            stats.statementPrepared(STATEMENT_LABEL);
+        }
+    }
+}
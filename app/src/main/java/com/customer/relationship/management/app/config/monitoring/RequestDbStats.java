@@ -0,0 +1,88 @@
+package com.customer.relationship.management.app.config.monitoring;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Database work done on behalf of the current request thread. Bound by {@link RequestMetricsFilter}
+ * and filled in by {@link RequestStatsSessionListener} and {@link RequestStatementInspector} for every
+ * Hibernate session the request opens, and by {@link RequestCountingJdbcTemplate} for plain JDBC work.
+ */
+public final class RequestDbStats {
+
+    private static final ThreadLocal<RequestDbStats> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> preparedBySql = new HashMap<>();
+    private int prepared;
+    private int statements;
+    private long executionNanos;
+    private int cacheHits;
+    private int cacheMisses;
+
+    static RequestDbStats begin() {
+        RequestDbStats stats = new RequestDbStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Stats of the request running on this thread, or {@code null} outside of a request.
+     */
+    public static RequestDbStats current() {
+        return CURRENT.get();
+    }
+
+    void statementExecuted(long nanos) {
+        statements++;
+        executionNanos += nanos;
+    }
+
+    void statementPrepared(String sql) {
+        prepared++;
+        preparedBySql.merge(sql, 1, Integer::sum);
+    }
+
+    void cacheAccessed(boolean hit) {
+        if (hit) {
+            cacheHits++;
+        } else {
+            cacheMisses++;
+        }
+    }
+
+    public int preparedStatements() {
+        return prepared;
+    }
+
+    /**
+     * The statements prepared most often during the request, which is where N+1 loops show up.
+     */
+    public List<Map.Entry<String, Integer>> mostRepeated(int limit) {
+        return preparedBySql.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .toList();
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long executionNanos() {
+        return executionNanos;
+    }
+
+    public int cacheHits() {
+        return cacheHits;
+    }
+
+    public int cacheMisses() {
+        return cacheMisses;
+    }
+}
@@ -0,0 +1,85 @@
+package com.customer.relationship.management.app.config.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Records per-request database work next to Spring's {@code http.server.requests} latency, tagged with
+ * the same controller mapping ({@code /api/notes/account/{accountId}}, not the raw path):
+ * <ul>
+ *     <li>{@code crm.http.db.statements} - JDBC statements executed</li>
+ *     <li>{@code crm.http.db.time} - time spent executing them</li>
+ *     <li>{@code crm.http.db.cache.hits} / {@code crm.http.db.cache.misses} - second-level cache lookups</li>
+ * </ul>
+ * Completed requests are then checked against their {@link StatementBudget}. The response is committed by
+ * then, so the check can log or fail a test but not change what the client got.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final String UNMAPPED = "UNMAPPED";
+
+    private final MeterRegistry meterRegistry;
+    private final StatementBudget statementBudget;
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry, StatementBudget statementBudget) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestDbStats stats = RequestDbStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDbStats.end();
+            record(request.getMethod(), uriPattern(request), stats);
+        }
+        statementBudget.check(request.getMethod(), uriPattern(request), stats);
+    }
+
+    private static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNMAPPED;
+    }
+
+    private void record(String method, String uri, RequestDbStats stats) {
+        summary("crm.http.db.statements", "JDBC statements executed per request", uri, method)
+                .record(stats.statements());
+        summary("crm.http.db.cache.hits", "Second-level cache hits per request", uri, method)
+                .record(stats.cacheHits());
+        summary("crm.http.db.cache.misses", "Second-level cache misses per request", uri, method)
+                .record(stats.cacheMisses());
+        Timer.builder("crm.http.db.time")
+                .description("Time spent executing JDBC statements per request")
+                .tags("uri", uri, "method", method)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.ofNanos(stats.executionNanos()));
+    }
+
+    private DistributionSummary summary(String name, String description, String uri, String method) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tags("uri", uri, "method", method)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
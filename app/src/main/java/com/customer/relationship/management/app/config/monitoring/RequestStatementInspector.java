@@ -0,0 +1,19 @@
+package com.customer.relationship.management.app.config.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Registered through {@code hibernate.session_factory.statement_inspector}. Counts every SQL statement
+ * Hibernate prepares on a request thread so {@link StatementBudget} can flag N+1 query patterns.
+ */
+public class RequestStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestDbStats stats = RequestDbStats.current();
+        if (stats != null) {
+            stats.statementPrepared(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,47 @@
+package com.customer.relationship.management.app.config.monitoring;
+
+import org.hibernate.engine.spi.SessionEventListener;
+
+/**
+ * Registered through {@code hibernate.session.events.auto}, so Hibernate creates one per session.
+ * Adds each JDBC execution and second-level cache lookup to the {@link RequestDbStats} of the
+ * calling thread.
+ */
+public class RequestStatsSessionListener implements SessionEventListener {
+
+    private long executionStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestDbStats stats = RequestDbStats.current();
+        if (stats != null) {
+            stats.statementExecuted(System.nanoTime() - executionStart);
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestDbStats stats = RequestDbStats.current();
+        if (stats != null) {
+            stats.statementExecuted(System.nanoTime() - executionStart);
+        }
+    }
+
+    @Override
+    public void cacheGetEnd(boolean hit) {
+        RequestDbStats stats = RequestDbStats.current();
+        if (stats != null) {
+            stats.cacheAccessed(hit);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.customer.relationship.management.app.config.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Collectors;
+
+/**
+ * Flags requests that prepare more SQL statements than their budget allows. Over-budget requests are
+ * counted in {@code crm.http.db.budget.exceeded} and logged with their most repeated statements.
+ * <p>
+ * The check runs once the response has been written, so in production it only reports. {@code fail-on-exceed}
+ * is meant for tests: the exception then reaches the MockMvc caller and fails the test, but cannot change the
+ * status a real client already received.
+ * <p>
+ * Counted: statements Hibernate prepares and statements run through the application's {@code JdbcTemplate},
+ * on the request thread. Not counted: work on other threads, notably the body of a streaming export.
+ */
+@Component
+@EnableConfigurationProperties(StatementBudgetProperties.class)
+@Log4j2
+public class StatementBudget {
+
+    private static final int REPORTED_STATEMENTS = 3;
+
+    private final StatementBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public StatementBudget(StatementBudgetProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    void check(String method, String uri, RequestDbStats stats) {
+        int budget = properties.budgetFor(uri);
+        int prepared = stats.preparedStatements();
+        if (prepared <= budget) {
+            return;
+        }
+
+        meterRegistry.counter("crm.http.db.budget.exceeded", "uri", uri, "method", method).increment();
+        String message = String.format("%s %s prepared %d SQL statements, budget is %d. Most repeated: %s",
+                method, uri, prepared, budget, describe(stats));
+        if (properties.failOnExceed()) {
+            throw new StatementBudgetExceededException(message);
+        }
+        log.warn(message);
+    }
+
+    private static String describe(RequestDbStats stats) {
+        return stats.mostRepeated(REPORTED_STATEMENTS).stream()
+                .map(entry -> entry.getValue() + "x " + entry.getKey())
+                .collect(Collectors.joining(" | "));
+    }
+}
@@ -0,0 +1,8 @@
+package com.customer.relationship.management.app.config.monitoring;
+
+public class StatementBudgetExceededException extends IllegalStateException {
+
+    public StatementBudgetExceededException(String message) {
+        super(message);
+    }
+}
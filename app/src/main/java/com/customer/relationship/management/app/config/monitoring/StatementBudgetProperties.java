@@ -0,0 +1,22 @@
+package com.customer.relationship.management.app.config.monitoring;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * Maximum number of SQL statements a request may prepare. {@code endpoints} overrides the default per
+ * controller mapping, e.g. {@code crm.db.statement-budget.endpoints[/api/leads]=3}.
+ */
+@ConfigurationProperties("crm.db.statement-budget")
+public record StatementBudgetProperties(
+        @DefaultValue("25") int defaultBudget,
+        Map<String, Integer> endpoints,
+        @DefaultValue("false") boolean failOnExceed
+) {
+
+    public int budgetFor(String uri) {
+        return endpoints != null ? endpoints.getOrDefault(uri, defaultBudget) : defaultBudget;
+    }
+}
@@ -0,0 +1,59 @@
+package com.customer.relationship.management.app.config.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Records events in {@code outbox_events} as part of the caller's transaction, so an event exists if and
+ * only if the write that produced it committed. Events are serialized as JSON and keyed by class name.
+ */
+@Component
+public class Outbox {
+
+    private static final String INSERT_EVENT = "INSERT INTO outbox_events (event_type, payload, status, attempts, created_at) " +
+            "VALUES (?, ?, 'PENDING', 0, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public Outbox(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(Object event) {
+        appendAll(List.of(event));
+    }
+
+    /**
+     * Inserts all events as one JDBC batch.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(List<?> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = events.stream()
+                .map(event -> new Object[]{event.getClass().getName(), serialize(event), now})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_EVENT, rows);
+    }
+
+    private String serialize(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize outbox event " + event.getClass().getName(), e);
+        }
+    }
+}
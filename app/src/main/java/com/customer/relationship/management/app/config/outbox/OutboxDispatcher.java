@@ -0,0 +1,169 @@
+package com.customer.relationship.management.app.config.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Polls {@code outbox_events} in id order and hands each pending event to the {@link OutboxSubscriber}s
+ * registered for its type. Delivered events are marked done in one update per batch; an event whose
+ * subscriber throws is retried on later polls and marked failed after {@code crm.outbox.max-attempts}.
+ * A poll drains the backlog batch by batch, reading past events that failed, so one bad row does not hold
+ * back the ones behind it.
+ * <p>
+ * Assumes a single application instance: rows are not claimed, so two dispatchers would both deliver them.
+ * <p>
+ * Metrics: {@code crm.outbox.delivery.lag} (commit-to-delivery time), {@code crm.outbox.oldest.pending.age}
+ * (seconds the oldest pending event has waited at the last poll), {@code crm.outbox.delivered},
+ * {@code crm.outbox.retried} (failed attempts that will be retried) and {@code crm.outbox.failed} (events given up on).
+ */
+@Component
+@Log4j2
+class OutboxDispatcher {
+
+    private final OutboxEventRepository repository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, List<OutboxSubscriber<?>>> subscribersByType = new HashMap<>();
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retention;
+
+    private final Timer deliveryLag;
+    private final Counter delivered;
+    private final Counter retried;
+    private final Counter failed;
+    private final AtomicLong oldestPendingAgeSeconds = new AtomicLong();
+
+    OutboxDispatcher(OutboxEventRepository repository,
+                            List<OutboxSubscriber<?>> subscribers,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${crm.outbox.batch-size:200}") int batchSize,
+                            @Value("${crm.outbox.max-attempts:5}") int maxAttempts,
+                            @Value("${crm.outbox.retention:P7D}") Duration retention) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retention = retention;
+        for (OutboxSubscriber<?> subscriber : subscribers) {
+            subscribersByType.computeIfAbsent(subscriber.eventType().getName(), type -> new ArrayList<>()).add(subscriber);
+        }
+
+        this.deliveryLag = Timer.builder("crm.outbox.delivery.lag")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.delivered = meterRegistry.counter("crm.outbox.delivered");
+        this.retried = meterRegistry.counter("crm.outbox.retried");
+        this.failed = meterRegistry.counter("crm.outbox.failed");
+        Gauge.builder("crm.outbox.oldest.pending.age", oldestPendingAgeSeconds, AtomicLong::get)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${crm.outbox.poll-interval:PT1S}")
+    public void poll() {
+        long afterId = 0;
+        List<OutboxEvent> batch;
+        do {
+            batch = repository.findPending(afterId, PageRequest.of(0, batchSize));
+            if (afterId == 0) {
+                oldestPendingAgeSeconds.set(batch.isEmpty()
+                        ? 0
+                        : Duration.between(batch.getFirst().getCreatedAt(), LocalDateTime.now()).toSeconds());
+            }
+            if (!batch.isEmpty()) {
+                dispatchBatch(batch);
+                afterId = batch.getLast().getId();
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    @Scheduled(cron = "${crm.outbox.cleanup-cron:0 15 * * * *}")
+    public void deleteDeliveredEvents() {
+        Integer deleted = transactionTemplate.execute(status ->
+                repository.deleteDoneBefore(LocalDateTime.now().minus(retention)));
+        log.debug("Deleted {} delivered outbox events", deleted);
+    }
+
+    /**
+     * Delivers one batch. Subscribers run outside the dispatcher's transaction, so a failing subscriber
+     * cannot roll back the bookkeeping for the rest of the batch.
+     *
+     * @return the number of events delivered
+     */
+    int dispatchBatch(List<OutboxEvent> batch) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> done = new ArrayList<>(batch.size());
+        List<OutboxEvent> undelivered = new ArrayList<>();
+        int givenUp = 0;
+        for (OutboxEvent event : batch) {
+            if (deliver(event)) {
+                done.add(event.getId());
+                deliveryLag.record(Duration.between(event.getCreatedAt(), LocalDateTime.now()));
+            } else {
+                event.setAttempts(event.getAttempts() + 1);
+                if (event.getAttempts() >= maxAttempts) {
+                    event.setStatus(OutboxStatus.FAILED);
+                    event.setProcessedAt(now);
+                    givenUp++;
+                    log.error("Giving up on outbox event {} ({}) after {} attempts",
+                            event.getId(), event.getEventType(), event.getAttempts());
+                }
+                undelivered.add(event);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!done.isEmpty()) {
+                repository.markDone(done, now);
+            }
+            repository.saveAll(undelivered);
+        });
+        delivered.increment(done.size());
+        retried.increment(undelivered.size() - givenUp);
+        failed.increment(givenUp);
+        return done.size();
+    }
+
+    private boolean deliver(OutboxEvent event) {
+        List<OutboxSubscriber<?>> subscribers = subscribersByType.get(event.getEventType());
+        if (subscribers == null) {
+            return true;
+        }
+        try {
+            Object payload = objectMapper.readValue(event.getPayload(), subscribers.getFirst().eventType());
+            for (OutboxSubscriber<?> subscriber : subscribers) {
+                handle(subscriber, payload);
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("Delivering outbox event {} ({}) failed: {}", event.getId(), event.getEventType(), e.getMessage());
+            return false;
+        }
+    }
+
+    private static <E> void handle(OutboxSubscriber<E> subscriber, Object payload) {
+        subscriber.handle(subscriber.eventType().cast(payload));
+    }
+}
@@ -0,0 +1,28 @@
+package com.customer.relationship.management.app.config.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query("SELECT e FROM OutboxEvent e WHERE e.status = com.customer.relationship.management.app.config.outbox.OutboxStatus.PENDING " +
+            "AND e.id > :afterId ORDER BY e.id")
+    List<OutboxEvent> findPending(@Param("afterId") long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = com.customer.relationship.management.app.config.outbox.OutboxStatus.DONE, " +
+            "e.processedAt = :processedAt WHERE e.id IN :ids")
+    int markDone(@Param("ids") Collection<Long> ids, @Param("processedAt") LocalDateTime processedAt);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = com.customer.relationship.management.app.config.outbox.OutboxStatus.DONE " +
+            "AND e.processedAt < :before")
+    int deleteDoneBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,7 @@
+package com.customer.relationship.management.app.config.outbox;
+
+public enum OutboxStatus {
+    PENDING,
+    DONE,
+    FAILED
+}
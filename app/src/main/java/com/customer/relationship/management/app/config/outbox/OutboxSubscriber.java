@@ -0,0 +1,12 @@
+package com.customer.relationship.management.app.config.outbox;
+
+/**
+ * In-process consumer of outbox events of one type. Delivery is at-least-once: an event is retried when
+ * any of its subscribers throws, so handlers should tolerate seeing an event twice.
+ */
+public interface OutboxSubscriber<E> {
+
+    Class<E> eventType();
+
+    void handle(E event);
+}
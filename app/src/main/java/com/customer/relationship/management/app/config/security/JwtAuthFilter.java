@@ -1,8 +1,9 @@
 package com.customer.relationship.management.app.config.security;
 
 import com.customer.relationship.management.app.auth.JwtUtil;
+import com.customer.relationship.management.app.users.AuthenticatedUser;
+import com.customer.relationship.management.app.users.PrincipalCache;
 import com.customer.relationship.management.app.users.User;
-import com.customer.relationship.management.app.users.UserRepository;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -22,11 +23,11 @@ import java.util.List;
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
-    public JwtAuthFilter(JwtUtil jwtUtil, UserRepository userRepository) {
+    public JwtAuthFilter(JwtUtil jwtUtil, PrincipalCache principalCache) {
         this.jwtUtil = jwtUtil;
-        this.userRepository = userRepository;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -45,11 +46,12 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             String userEmail = claims.getSubject();
 
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                User user = userRepository.findByEmail(userEmail).orElse(null);
+                // the cached snapshot, not the token's role claim, so role changes apply before the token expires
+                User user = principalCache.getByEmail(userEmail).orElse(null);
 
                 if (user != null) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userEmail,
+                            new AuthenticatedUser(user),
                             null,
                             List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))
                     );
@@ -34,6 +34,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/ranking/sales").hasAnyRole(UserRole.MANAGER.name())
                         .requestMatchers("/api/reports/team-sales").hasAnyRole(UserRole.MANAGER.name())
                         .requestMatchers("/api/users/**").hasAnyRole(UserRole.ADMIN.name())
+                        .requestMatchers("/actuator/**").hasAnyRole(UserRole.ADMIN.name())
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
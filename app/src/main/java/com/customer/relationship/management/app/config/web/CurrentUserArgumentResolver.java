@@ -0,0 +1,63 @@
+package com.customer.relationship.management.app.config.web;
+
+import com.customer.relationship.management.app.users.CurrentUser;
+import com.customer.relationship.management.app.users.PrincipalCache;
+import com.customer.relationship.management.app.users.User;
+import com.customer.relationship.management.app.users.UserView;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Resolves {@link CurrentUser} parameters from the principal set by the JWT filter, which already
+ * holds a cached snapshot, so no query is made. The user is resolved once and kept for the rest of
+ * the request.
+ * <p>
+ * {@link UserView} is built from that snapshot rather than from the token's claims on purpose. Tokens live
+ * for ten days and carry no team, and their role claim is already ignored by the JWT filter so that
+ * role changes take effect at once. Handlers scope data by {@code role()} and {@code teamId()}, so those
+ * must come from the same {@link PrincipalCache} entry as the granted authorities.
+ */
+class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final String USER_ATTRIBUTE = CurrentUserArgumentResolver.class.getName() + ".user";
+
+    private final PrincipalCache principalCache;
+
+    CurrentUserArgumentResolver(PrincipalCache principalCache) {
+        this.principalCache = principalCache;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        Class<?> type = parameter.getParameterType();
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && (type == UserView.class || type == User.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        User user = (User) webRequest.getAttribute(USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (user == null) {
+            user = principalCache.resolve(currentAuthentication());
+            webRequest.setAttribute(USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return parameter.getParameterType() == UserView.class ? UserView.of(user) : user;
+    }
+
+    private static Authentication currentAuthentication() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            throw new AuthenticationCredentialsNotFoundException("No authenticated user");
+        }
+        return authentication;
+    }
+}
@@ -0,0 +1,131 @@
+package com.customer.relationship.management.app.config.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Writes query results straight to the response as NDJSON or CSV. The rows are pulled from a repository
+ * {@link Stream} inside a read-only transaction on the async thread, so heap use stays flat however many
+ * rows there are; the persistence context is cleared every {@code crm.export.clear-interval} rows.
+ * <p>
+ * The CSV header is taken from the first row's properties, so an export with no rows is an empty body
+ * rather than a header line.
+ */
+@Component
+public class StreamingExporter {
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int clearInterval;
+
+    public StreamingExporter(PlatformTransactionManager transactionManager,
+                             EntityManager entityManager,
+                             ObjectMapper objectMapper,
+                             @Value("${crm.export.clear-interval:1000}") int clearInterval) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.clearInterval = clearInterval;
+    }
+
+    public <T> ResponseEntity<StreamingResponseBody> export(String name, ExportFormat format, Supplier<Stream<T>> rows) {
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(name + "." + format.extension())
+                .build();
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .contentType(format.mediaType())
+                .body(body(format, rows));
+    }
+
+    <T> StreamingResponseBody body(ExportFormat format, Supplier<Stream<T>> rows) {
+        return out -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<T> stream = rows.get()) {
+                if (format == ExportFormat.CSV) {
+                    writeCsv(stream.iterator(), out);
+                } else {
+                    writeNdjson(stream.iterator(), out);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private <T> void writeNdjson(Iterator<T> rows, OutputStream out) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            long written = 0;
+            while (rows.hasNext()) {
+                objectMapper.writeValue(generator, rows.next());
+                generator.writeRaw('\n');
+                afterRow(++written);
+            }
+        }
+    }
+
+    private <T> void writeCsv(Iterator<T> rows, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long written = 0;
+        while (rows.hasNext()) {
+            JsonNode row = objectMapper.valueToTree(rows.next());
+            if (written == 0) {
+                writeCsvLine(writer, row.fieldNames());
+            }
+            List<String> values = new ArrayList<>(row.size());
+            row.elements().forEachRemaining(value -> values.add(value.isNull() ? "" : value.asText()));
+            writeCsvLine(writer, values.iterator());
+            afterRow(++written);
+        }
+        writer.flush();
+    }
+
+    private static void writeCsvLine(Writer writer, Iterator<String> values) throws IOException {
+        boolean first = true;
+        while (values.hasNext()) {
+            if (!first) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values.next()));
+            first = false;
+        }
+        writer.write("\r\n");
+    }
+
+    static String escapeCsv(String value) {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        return quote ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+
+    private void afterRow(long written) {
+        if (written % clearInterval == 0) {
+            entityManager.clear();
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.customer.relationship.management.app.config.web;
 
+import com.customer.relationship.management.app.users.PrincipalCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 public class WebConfig {
 
@@ -21,5 +25,14 @@ public class WebConfig {
             }
         };
     }
-}
 
+    @Bean
+    public WebMvcConfigurer currentUserConfigurer(PrincipalCache principalCache) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+                resolvers.add(new CurrentUserArgumentResolver(principalCache));
+            }
+        };
+    }
+}
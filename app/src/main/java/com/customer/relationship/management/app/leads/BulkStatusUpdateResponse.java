@@ -0,0 +1,8 @@
+package com.customer.relationship.management.app.leads;
+
+/**
+ * @param updated   leads whose status was changed in place
+ * @param converted {@code CLOSED_WON} leads that were turned into sales and removed
+ */
+public record BulkStatusUpdateResponse(int updated, int converted) {
+}
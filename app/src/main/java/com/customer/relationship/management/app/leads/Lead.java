@@ -12,7 +12,16 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "leads")
+@Table(
+        name = "leads",
+        indexes = {
+                @Index(name = "idx_leads_created_at_id", columnList = "created_at, id"),
+                @Index(name = "idx_leads_updated_at_id", columnList = "updated_at, id"),
+                @Index(name = "idx_leads_status_id", columnList = "status, id"),
+                @Index(name = "idx_leads_estimated_value_id", columnList = "estimated_value, id"),
+                @Index(name = "idx_leads_account_created_at_id", columnList = "account_id, created_at, id")
+        }
+)
 @Getter
 @Setter
 public class Lead {
@@ -1,15 +1,17 @@
 package com.customer.relationship.management.app.leads;
 
-import com.customer.relationship.management.app.users.User;
-import com.customer.relationship.management.app.users.UserRepository;
+import com.customer.relationship.management.app.config.web.ExportFormat;
+import com.customer.relationship.management.app.config.web.StreamingExporter;
+import com.customer.relationship.management.app.users.CurrentUser;
 import com.customer.relationship.management.app.users.UserRole;
+import com.customer.relationship.management.app.users.UserView;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -17,44 +19,46 @@ import java.util.Map;
 public class LeadController {
 
     private final LeadService leadService;
-    private final UserRepository userRepository;
+    private final StreamingExporter streamingExporter;
 
-    public LeadController(LeadService leadService, UserRepository userRepository) {
+    public LeadController(LeadService leadService, StreamingExporter streamingExporter) {
         this.leadService = leadService;
-        this.userRepository = userRepository;
+        this.streamingExporter = streamingExporter;
     }
 
     @PostMapping
     @PreAuthorize("hasRole('SALESPERSON')")
     public ResponseEntity<Lead> createLead(
             @RequestBody CreateLeadDTO createLeadDTO,
-            Authentication authentication
+            @CurrentUser UserView currentUser
     ) {
-        String email = authentication.getName();
-        User currentUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        Lead createdLead = leadService.createLead(createLeadDTO, currentUser);
+        Lead createdLead = leadService.createLead(createLeadDTO, currentUser.id());
         return ResponseEntity.status(HttpStatus.CREATED).body(createdLead);
     }
 
     @PostMapping("/{id}/status")
     @PreAuthorize("hasRole('SALESPERSON')")
-    public ResponseEntity<Void> updateLeadStatus(@PathVariable Long id, @RequestBody Map<String, String> body) {
+    public ResponseEntity<Void> updateLeadStatus(@PathVariable Long id, @RequestBody Map<String, String> body,
+                                                 @CurrentUser UserView currentUser) {
         String newStatus = body.get("status");
         LeadStatus status = LeadStatus.valueOf(newStatus);
-        leadService.updateStatus(id, status);
 
         if (status == LeadStatus.CLOSED_WON) {
-            String email = SecurityContextHolder.getContext().getAuthentication().getName();
-            User currentUser = userRepository.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-            leadService.closeLeadAndCreateSale(id, currentUser);
+            leadService.convertToSale(id, currentUser.id());
+        } else {
+            leadService.updateStatus(id, status);
         }
-        
+
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/status")
+    @PreAuthorize("hasRole('SALESPERSON')")
+    public ResponseEntity<BulkStatusUpdateResponse> updateLeadStatuses(@RequestBody List<LeadStatusChange> changes,
+                                                                       @CurrentUser UserView currentUser) {
+        return ResponseEntity.ok(leadService.updateStatuses(changes, currentUser.id()));
+    }
+
     @GetMapping
     @PreAuthorize("hasRole('SALESPERSON') or hasRole('MANAGER')")
     public ResponseEntity<LeadPageResponse> getLeads(
@@ -62,16 +66,12 @@ public class LeadController {
             @RequestParam(defaultValue = "asc") String sortDirection,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            Authentication authentication) {
-        String email = authentication.getName();
-        User currentUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
+            @CurrentUser UserView currentUser) {
         LeadPageResponse response;
 
-        if (currentUser.getRole() == UserRole.SALESPERSON) {
-            response = leadService.getLeadsByUser(currentUser, sortBy, sortDirection, page, size);
-        } else if (currentUser.getRole() == UserRole.MANAGER) {
+        if (currentUser.role() == UserRole.SALESPERSON) {
+            response = leadService.getLeadsByUser(currentUser.id(), sortBy, sortDirection, page, size);
+        } else if (currentUser.role() == UserRole.MANAGER) {
             response = leadService.getAllLeads(sortBy, sortDirection, page, size);
         } else {
             return ResponseEntity.status(403).build();
@@ -80,5 +80,38 @@ public class LeadController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('SALESPERSON') or hasRole('MANAGER')")
+    public ResponseEntity<StreamingResponseBody> exportLeads(@RequestParam(defaultValue = "ndjson") String format,
+                                                             @CurrentUser UserView currentUser) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        if (currentUser.role() == UserRole.SALESPERSON) {
+            return streamingExporter.export("leads", exportFormat, () -> leadService.streamLeadsByUser(currentUser.id()));
+        } else if (currentUser.role() == UserRole.MANAGER) {
+            return streamingExporter.export("leads", exportFormat, leadService::streamAllLeads);
+        }
+        return ResponseEntity.status(403).build();
+    }
+
+    /**
+     * Cursor mode of {@link #getLeads}: pass an empty {@code cursor} for the first slice and the returned
+     * {@code nextCursor} for the following ones. No totals are computed.
+     */
+    @GetMapping(params = "cursor")
+    @PreAuthorize("hasRole('SALESPERSON') or hasRole('MANAGER')")
+    public ResponseEntity<LeadSliceResponse> getLeadsAfter(
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam(defaultValue = "") String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @CurrentUser UserView currentUser) {
+        if (currentUser.role() == UserRole.SALESPERSON) {
+            return ResponseEntity.ok(leadService.getLeadsByUserAfter(currentUser.id(), sortBy, sortDirection, cursor, size));
+        } else if (currentUser.role() == UserRole.MANAGER) {
+            return ResponseEntity.ok(leadService.getAllLeadsAfter(sortBy, sortDirection, cursor, size));
+        }
+        return ResponseEntity.status(403).build();
+    }
+
 
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.customer.relationship.management.app.leads;
+
+import java.math.BigDecimal;
+
+public record LeadCreatedEvent(Long leadId, Long accountId, LeadStatus status, BigDecimal estimatedValue) {
+
+    public static LeadCreatedEvent of(Lead lead) {
+        return new LeadCreatedEvent(lead.getId(), lead.getAccount().getId(), lead.getStatus(), lead.getEstimatedValue());
+    }
+}
@@ -0,0 +1,49 @@
+package com.customer.relationship.management.app.leads;
+
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position in a lead listing: the sort value and id of the last row a client has seen, plus the
+ * order it was read in so the cursor cannot be replayed against a different sort. Serialized as an
+ * opaque URL-safe token.
+ */
+record LeadCursor(LeadSortKey key, Sort.Direction direction, Object value, long id) {
+
+    private static final String SEPARATOR = "|";
+
+    static LeadCursor after(LeadDTO lead, LeadSortKey key, Sort.Direction direction) {
+        return new LeadCursor(key, direction, key.valueOf(lead), lead.getId());
+    }
+
+    static LeadCursor parse(String token) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", 4);
+        } catch (IllegalArgumentException e) {
+            parts = new String[0];
+        }
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Invalid lead cursor: " + token);
+        }
+        try {
+            LeadSortKey key = LeadSortKey.valueOf(parts[0]);
+            return new LeadCursor(key, Sort.Direction.valueOf(parts[1]), key.parse(parts[3]), Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid lead cursor: " + token);
+        }
+    }
+
+    String encode() {
+        String raw = key.name() + SEPARATOR + direction.name() + SEPARATOR + id + SEPARATOR + key.format(value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    void requireOrder(LeadSortKey expectedKey, Sort.Direction expectedDirection) {
+        if (key != expectedKey || direction != expectedDirection) {
+            throw new IllegalArgumentException("Cursor was issued for a different sort order");
+        }
+    }
+}
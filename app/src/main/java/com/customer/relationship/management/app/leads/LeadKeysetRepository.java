@@ -0,0 +1,17 @@
+package com.customer.relationship.management.app.leads;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Seek pagination over lead listings. Unlike the {@code Page} queries on {@link LeadRepository} there is
+ * no {@code OFFSET} and no count query, so every slice costs the same regardless of how deep it is.
+ */
+interface LeadKeysetRepository {
+
+    /**
+     * @param userId owner of the leads' accounts, or {@code null} for all leads
+     * @param after  position of the last row of the previous slice, or {@code null} for the first slice
+     */
+    Slice<LeadDTO> findSlice(Long userId, LeadSortKey key, Sort.Direction direction, LeadCursor after, int size);
+}
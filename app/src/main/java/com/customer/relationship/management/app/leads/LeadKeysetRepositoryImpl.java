@@ -0,0 +1,90 @@
+package com.customer.relationship.management.app.leads;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class LeadKeysetRepositoryImpl implements LeadKeysetRepository {
+
+    private static final String SELECT = "SELECT new com.customer.relationship.management.app.leads.LeadDTO(" +
+            "l.id, l.description, l.status, l.estimatedValue, c.name, c.industry, l.createdAt, l.updatedAt) ";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<LeadDTO> findSlice(Long userId, LeadSortKey key, Sort.Direction direction, LeadCursor after, int size) {
+        List<String> conditions = new ArrayList<>();
+        if (userId != null) {
+            conditions.add("a.user.id = :userId");
+        }
+        if (after != null) {
+            conditions.add(seekPredicate(key, direction, after));
+        }
+
+        StringBuilder jpql = new StringBuilder(SELECT)
+                .append(userId != null ? "FROM Lead l JOIN l.account a " : "FROM Lead l LEFT JOIN l.account a ")
+                .append("LEFT JOIN a.company c ");
+        if (!conditions.isEmpty()) {
+            jpql.append("WHERE ").append(String.join(" AND ", conditions)).append(' ');
+        }
+        jpql.append("ORDER BY ").append(orderBy(key, direction));
+
+        TypedQuery<LeadDTO> query = entityManager.createQuery(jpql.toString(), LeadDTO.class);
+        if (userId != null) {
+            query.setParameter("userId", userId);
+        }
+        if (after != null) {
+            query.setParameter("id", after.id());
+            if (key != LeadSortKey.ID && after.value() != null) {
+                query.setParameter("value", after.value());
+            }
+        }
+
+        // one extra row tells us whether there is a next slice without counting
+        List<LeadDTO> rows = query.setMaxResults(size + 1).getResultList();
+        boolean hasNext = rows.size() > size;
+        List<LeadDTO> content = hasNext ? rows.subList(0, size) : rows;
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    /**
+     * Rows strictly after the cursor in {@code (key, id)} order. Nullable keys sort nulls first when
+     * ascending and last when descending, mirroring {@link #orderBy}.
+     */
+    private static String seekPredicate(LeadSortKey key, Sort.Direction direction, LeadCursor after) {
+        String cmp = direction.isAscending() ? ">" : "<";
+        String idAfter = "l.id " + cmp + " :id";
+        if (key == LeadSortKey.ID) {
+            return idAfter;
+        }
+
+        String column = "l." + key.property();
+        if (after.value() == null) {
+            return direction.isAscending()
+                    ? "((" + column + " IS NULL AND " + idAfter + ") OR " + column + " IS NOT NULL)"
+                    : "(" + column + " IS NULL AND " + idAfter + ")";
+        }
+        String seek = column + " " + cmp + " :value OR (" + column + " = :value AND " + idAfter + ")";
+        if (key.nullable() && !direction.isAscending()) {
+            seek += " OR " + column + " IS NULL";
+        }
+        return "(" + seek + ")";
+    }
+
+    private static String orderBy(LeadSortKey key, Sort.Direction direction) {
+        String dir = direction.isAscending() ? "ASC" : "DESC";
+        if (key == LeadSortKey.ID) {
+            return "l.id " + dir;
+        }
+        String nulls = key.nullable() ? (direction.isAscending() ? " NULLS FIRST" : " NULLS LAST") : "";
+        return "l." + key.property() + " " + dir + nulls + ", l.id " + dir;
+    }
+}
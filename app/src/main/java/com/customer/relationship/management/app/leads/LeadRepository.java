@@ -1,16 +1,79 @@
 package com.customer.relationship.management.app.leads;
 
 import com.customer.relationship.management.app.accounts.Account;
-import com.customer.relationship.management.app.users.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface LeadRepository extends JpaRepository<Lead, Long> {
+public interface LeadRepository extends JpaRepository<Lead, Long>, LeadKeysetRepository {
+
+    @Query(value = "SELECT new com.customer.relationship.management.app.leads.LeadDTO(" +
+            "l.id, l.description, l.status, l.estimatedValue, c.name, c.industry, l.createdAt, l.updatedAt) " +
+            "FROM Lead l JOIN l.account a LEFT JOIN a.company c " +
+            "WHERE a.user.id = :userId",
+            countQuery = "SELECT COUNT(l) FROM Lead l WHERE l.account.user.id = :userId")
+    Page<LeadDTO> findPageByAccountUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(value = "SELECT new com.customer.relationship.management.app.leads.LeadDTO(" +
+            "l.id, l.description, l.status, l.estimatedValue, c.name, c.industry, l.createdAt, l.updatedAt) " +
+            "FROM Lead l LEFT JOIN l.account a LEFT JOIN a.company c",
+            countQuery = "SELECT COUNT(l) FROM Lead l")
+    Page<LeadDTO> findPage(Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.customer.relationship.management.app.leads.LeadDTO(" +
+            "l.id, l.description, l.status, l.estimatedValue, c.name, c.industry, l.createdAt, l.updatedAt) " +
+            "FROM Lead l JOIN l.account a LEFT JOIN a.company c " +
+            "WHERE a.user.id = :userId ORDER BY l.id")
+    Stream<LeadDTO> streamByAccountUserId(@Param("userId") Long userId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.customer.relationship.management.app.leads.LeadDTO(" +
+            "l.id, l.description, l.status, l.estimatedValue, c.name, c.industry, l.createdAt, l.updatedAt) " +
+            "FROM Lead l LEFT JOIN l.account a LEFT JOIN a.company c ORDER BY l.id")
+    Stream<LeadDTO> streamAll();
 
-    Page<Lead> findByAccountUser(User user, Pageable pageable);
-    
     List<Lead> findByAccount(Account account);
-}
\ No newline at end of file
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM Lead l WHERE l.id = :id")
+    Optional<Lead> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("SELECT l.id FROM Lead l WHERE l.id IN :ids AND l.account.user.id = :userId")
+    List<Long> findIdsOwnedBy(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    // locked in id order so concurrent bulk conversions cannot deadlock each other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l.id, l.estimatedValue FROM Lead l WHERE l.id IN :ids ORDER BY l.id")
+    List<Object[]> findEstimatedValuesForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Lead l SET l.status = :status, l.updatedAt = :updatedAt WHERE l.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("status") LeadStatus status,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("DELETE FROM Lead l WHERE l.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -2,40 +2,58 @@ package com.customer.relationship.management.app.leads;
 
 import com.customer.relationship.management.app.accounts.Account;
 import com.customer.relationship.management.app.accounts.AccountRepository;
+import com.customer.relationship.management.app.config.outbox.Outbox;
 import com.customer.relationship.management.app.sales.Sale;
-import com.customer.relationship.management.app.sales.SaleRepository;
+import com.customer.relationship.management.app.sales.SaleBookingService;
+import com.customer.relationship.management.app.sales.SaleClosedEvent;
 import com.customer.relationship.management.app.users.User;
+import com.customer.relationship.management.app.users.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 @Service
 public class LeadService {
 
+    static final int MAX_BULK_CHANGES = 1000;
+
     private final LeadRepository leadRepository;
     private final AccountRepository accountRepository;
-    private final SaleRepository saleRepository;
+    private final SaleBookingService saleBookingService;
+    private final UserRepository userRepository;
+    private final Outbox outbox;
 
-    public LeadService(LeadRepository leadRepository, AccountRepository accountRepository, SaleRepository saleRepository) {
+    public LeadService(LeadRepository leadRepository, AccountRepository accountRepository,
+                       SaleBookingService saleBookingService, UserRepository userRepository, Outbox outbox) {
         this.leadRepository = leadRepository;
         this.accountRepository = accountRepository;
-        this.saleRepository = saleRepository;
+        this.saleBookingService = saleBookingService;
+        this.userRepository = userRepository;
+        this.outbox = outbox;
     }
 
     @Transactional
-    public Lead createLead(CreateLeadDTO createLeadDTO, User currentUser) {
+    public Lead createLead(CreateLeadDTO createLeadDTO, Long currentUserId) {
         Account account = accountRepository.findById(createLeadDTO.getAccountId())
                 .orElseThrow(() -> new RuntimeException("Account not found"));
 
         // Sprawdź czy konto należy do użytkownika
-        if (!account.getUser().getId().equals(currentUser.getId())) {
+        if (!account.getUser().getId().equals(currentUserId)) {
             throw new SecurityException("You can only add leads to your own accounts");
         }
 
@@ -45,21 +63,42 @@ public class LeadService {
         lead.setEstimatedValue(BigDecimal.valueOf(createLeadDTO.getEstimatedValue()));
         lead.setAccount(account);
 
-        return leadRepository.save(lead);
+        Lead saved = leadRepository.save(lead);
+        outbox.append(LeadCreatedEvent.of(saved));
+        return saved;
     }
 
     @Transactional(readOnly = true)
-    public LeadPageResponse getLeadsByUser(User user, String sortBy, String sortDirection, int page, int size) {
+    public LeadPageResponse getLeadsByUser(Long userId, String sortBy, String sortDirection, int page, int size) {
         Pageable pageable = createPageable(sortBy, sortDirection, page, size);
-        Page<Lead> leadPage = leadRepository.findByAccountUser(user, pageable);
-        return createLeadPageResponse(leadPage);
+        return createLeadPageResponse(leadRepository.findPageByAccountUserId(userId, pageable));
     }
 
     @Transactional(readOnly = true)
     public LeadPageResponse getAllLeads(String sortBy, String sortDirection, int page, int size) {
         Pageable pageable = createPageable(sortBy, sortDirection, page, size);
-        Page<Lead> leadPage = leadRepository.findAll(pageable);
-        return createLeadPageResponse(leadPage);
+        return createLeadPageResponse(leadRepository.findPage(pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public LeadSliceResponse getLeadsByUserAfter(Long userId, String sortBy, String sortDirection, String cursor, int size) {
+        return createLeadSlice(userId, sortBy, sortDirection, cursor, size);
+    }
+
+    @Transactional(readOnly = true)
+    public LeadSliceResponse getAllLeadsAfter(String sortBy, String sortDirection, String cursor, int size) {
+        return createLeadSlice(null, sortBy, sortDirection, cursor, size);
+    }
+
+    /**
+     * Must be consumed inside a transaction, see {@link com.customer.relationship.management.app.config.web.StreamingExporter}.
+     */
+    public Stream<LeadDTO> streamLeadsByUser(Long userId) {
+        return leadRepository.streamByAccountUserId(userId);
+    }
+
+    public Stream<LeadDTO> streamAllLeads() {
+        return leadRepository.streamAll();
     }
 
     @Transactional
@@ -69,24 +108,104 @@ public class LeadService {
 
         lead.setStatus(newStatus);
         leadRepository.save(lead);
+        outbox.append(new LeadStatusChangedEvent(leadId, newStatus));
     }
 
+    /**
+     * Applies many status changes at once: ownership is checked for the whole set, each target status is
+     * one {@code UPDATE ... WHERE id IN (...)}, and {@code CLOSED_WON} leads are booked as sales in one
+     * batch and removed, as {@link #convertToSale} does for a single lead.
+     */
     @Transactional
-    public void closeLeadAndCreateSale(Long leadId, User currentUser) {
-        Lead lead = leadRepository.findById(leadId)
-                .orElseThrow(() -> new RuntimeException("Lead not found with id: " + leadId));
+    public BulkStatusUpdateResponse updateStatuses(List<LeadStatusChange> changes, Long currentUserId) {
+        Map<Long, LeadStatus> statusById = new LinkedHashMap<>();
+        for (LeadStatusChange change : changes) {
+            if (change.id() == null || change.status() == null) {
+                throw new IllegalArgumentException("Every change needs an id and a status");
+            }
+            LeadStatus previous = statusById.put(change.id(), change.status());
+            if (previous != null && previous != change.status()) {
+                throw new IllegalArgumentException("Conflicting statuses for lead " + change.id());
+            }
+        }
+        if (statusById.isEmpty()) {
+            return new BulkStatusUpdateResponse(0, 0);
+        }
+        if (statusById.size() > MAX_BULK_CHANGES) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_CHANGES + " leads can be updated at once");
+        }
 
-        if (lead.getStatus() != LeadStatus.CLOSED_WON) {
-            throw new IllegalStateException("Can only create sale from a won lead");
+        List<Long> owned = leadRepository.findIdsOwnedBy(statusById.keySet(), currentUserId);
+        if (owned.size() != statusById.size()) {
+            throw new AccessDeniedException("You can only update leads on your own accounts");
         }
 
-        Sale sale = new Sale();
-        sale.setSalesRep(currentUser);
-        sale.setAmount(lead.getEstimatedValue());
-        sale.setCloseDate(LocalDateTime.now());
-        saleRepository.save(sale);
+        Map<LeadStatus, List<Long>> idsByStatus = new EnumMap<>(LeadStatus.class);
+        statusById.forEach((id, status) -> idsByStatus.computeIfAbsent(status, s -> new ArrayList<>()).add(id));
+
+        List<Long> won = idsByStatus.remove(LeadStatus.CLOSED_WON);
+        LocalDateTime now = LocalDateTime.now();
+        int updated = 0;
+        for (Map.Entry<LeadStatus, List<Long>> entry : idsByStatus.entrySet()) {
+            updated += leadRepository.updateStatus(entry.getValue(), entry.getKey(), now);
+        }
+
+        int converted = 0;
+        if (won != null) {
+            User salesRep = userRepository.getReferenceById(currentUserId);
+            List<Object[]> values = leadRepository.findEstimatedValuesForUpdate(won);
+            if (values.size() != won.size()) {
+                throw new EntityNotFoundException("Some leads were converted or deleted in the meantime");
+            }
+            List<Sale> sales = values.stream()
+                    .map(row -> newSale(salesRep, (Long) row[0], (BigDecimal) row[1], now))
+                    .toList();
+            saleBookingService.bookAll(sales);
+            converted = leadRepository.deleteAllByIdIn(won);
+            if (converted != won.size()) {
+                // rolls back the sales booked above
+                throw new IllegalStateException("Expected to convert " + won.size() + " leads but removed " + converted);
+            }
+        }
+        outbox.appendAll(statusById.entrySet().stream()
+                .map(change -> new LeadStatusChangedEvent(change.getKey(), change.getValue()))
+                .toList());
+        return new BulkStatusUpdateResponse(updated, converted);
+    }
 
+    /**
+     * Turns a lead into a sale when it is won: the lead is locked and read once, its ownership checked against the
+     * account loaded with it, then the sale is booked and the lead removed in the same transaction.
+     * <p>
+     * Two events are recorded, not one: {@link SaleBookingService} records a {@link SaleClosedEvent} for the sales
+     * views, and a {@link LeadStatusChangedEvent} is recorded for lead consumers, as {@link #updateStatuses} does
+     * for leads won in bulk.
+     */
+    @Transactional
+    public Sale convertToSale(Long leadId, Long currentUserId) {
+        Lead lead = leadRepository.findByIdForUpdate(leadId)
+                .orElseThrow(() -> new EntityNotFoundException("Lead not found with id: " + leadId));
+        if (lead.getAccount() == null || !lead.getAccount().getUser().getId().equals(currentUserId)) {
+            throw new AccessDeniedException("You can only convert leads on your own accounts");
+        }
+
+        Sale sale = newSale(userRepository.getReferenceById(currentUserId), lead.getId(), lead.getEstimatedValue(),
+                LocalDateTime.now());
+        saleBookingService.bookAll(List.of(sale));
         leadRepository.delete(lead);
+        outbox.append(new LeadStatusChangedEvent(leadId, LeadStatus.CLOSED_WON));
+        return sale;
+    }
+
+    private static Sale newSale(User salesRep, Long leadId, BigDecimal amount, LocalDateTime closeDate) {
+        if (amount == null) {
+            throw new IllegalArgumentException("Lead " + leadId + " has no estimated value");
+        }
+        Sale sale = new Sale();
+        sale.setSalesRep(salesRep);
+        sale.setAmount(amount);
+        sale.setCloseDate(closeDate);
+        return sale;
     }
 
     private Pageable createPageable(String sortBy, String sortDirection, int page, int size) {
@@ -94,30 +213,9 @@ public class LeadService {
         return PageRequest.of(page, size, sort);
     }
 
-    private LeadPageResponse createLeadPageResponse(Page<Lead> leadPage) {
-        List<LeadDTO> dtoList = leadPage.getContent().stream().map(lead -> {
-            String companyName = null;
-            String companyIndustry = null;
-
-            if (lead.getAccount() != null && lead.getAccount().getCompany() != null) {
-                companyName = lead.getAccount().getCompany().getName();
-                companyIndustry = lead.getAccount().getCompany().getIndustry();
-            }
-
-            return new LeadDTO(
-                    lead.getId(),
-                    lead.getDescription(),
-                    lead.getStatus(),
-                    lead.getEstimatedValue(),
-                    companyName,
-                    companyIndustry,
-                    lead.getCreatedAt(),
-                    lead.getUpdatedAt()
-            );
-        }).toList();
-
+    private LeadPageResponse createLeadPageResponse(Page<LeadDTO> leadPage) {
         return new LeadPageResponse(
-                dtoList,
+                leadPage.getContent(),
                 leadPage.getNumber(),
                 leadPage.getSize(),
                 leadPage.getTotalElements(),
@@ -125,14 +223,35 @@ public class LeadService {
         );
     }
 
+    private LeadSliceResponse createLeadSlice(Long userId, String sortBy, String sortDirection, String cursor, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Size must be positive");
+        }
+        LeadSortKey key = LeadSortKey.forProperty(mapSortField(sortBy));
+        Sort.Direction direction = parseDirection(sortDirection);
+        LeadCursor after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            after = LeadCursor.parse(cursor);
+            after.requireOrder(key, direction);
+        }
+
+        Slice<LeadDTO> slice = leadRepository.findSlice(userId, key, direction, after, size);
+        String nextCursor = slice.hasNext()
+                ? LeadCursor.after(slice.getContent().getLast(), key, direction).encode()
+                : null;
+        return new LeadSliceResponse(slice.getContent(), size, slice.hasNext(), nextCursor);
+    }
+
     private Sort createSort(String sortBy, String sortDirection) {
         String mappedSortBy = mapSortField(sortBy);
         
-        Sort.Direction direction = "desc".equalsIgnoreCase(sortDirection) 
-            ? Sort.Direction.DESC 
+        return Sort.by(parseDirection(sortDirection), mappedSortBy);
+    }
+
+    private Sort.Direction parseDirection(String sortDirection) {
+        return "desc".equalsIgnoreCase(sortDirection)
+            ? Sort.Direction.DESC
             : Sort.Direction.ASC;
-            
-        return Sort.by(direction, mappedSortBy);
     }
 
     private String mapSortField(String sortBy) {
@@ -0,0 +1,20 @@
+package com.customer.relationship.management.app.leads;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class LeadSliceResponse {
+    private final List<LeadDTO> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    public LeadSliceResponse(List<LeadDTO> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+}
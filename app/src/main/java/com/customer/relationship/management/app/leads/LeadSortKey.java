@@ -0,0 +1,59 @@
+package com.customer.relationship.management.app.leads;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * Sort columns supported by keyset pagination, keyed by the property names {@code mapSortField} produces.
+ * Each knows how to read its value from a {@link LeadDTO} and how to restore it from a cursor.
+ */
+enum LeadSortKey {
+    ID("id", false, LeadDTO::getId, Long::valueOf),
+    CREATED_AT("createdAt", false, LeadDTO::getCreatedAt, LocalDateTime::parse),
+    UPDATED_AT("updatedAt", false, LeadDTO::getUpdatedAt, LocalDateTime::parse),
+    DESCRIPTION("description", false, LeadDTO::getDescription, Function.identity()),
+    STATUS("status", false, LeadDTO::getStatus, LeadStatus::valueOf),
+    ESTIMATED_VALUE("estimatedValue", true, LeadDTO::getEstimatedValue, BigDecimal::new);
+
+    private final String property;
+    private final boolean nullable;
+    private final Function<LeadDTO, Object> extractor;
+    private final Function<String, Object> parser;
+
+    LeadSortKey(String property, boolean nullable, Function<LeadDTO, Object> extractor, Function<String, Object> parser) {
+        this.property = property;
+        this.nullable = nullable;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    static LeadSortKey forProperty(String property) {
+        for (LeadSortKey key : values()) {
+            if (key.property.equals(property)) {
+                return key;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported sort field: " + property);
+    }
+
+    String property() {
+        return property;
+    }
+
+    boolean nullable() {
+        return nullable;
+    }
+
+    Object valueOf(LeadDTO lead) {
+        return extractor.apply(lead);
+    }
+
+    String format(Object value) {
+        return value == null ? "" : value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+    }
+
+    Object parse(String value) {
+        return nullable && value.isEmpty() ? null : parser.apply(value);
+    }
+}
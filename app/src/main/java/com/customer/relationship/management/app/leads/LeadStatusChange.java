@@ -0,0 +1,4 @@
+package com.customer.relationship.management.app.leads;
+
+public record LeadStatusChange(Long id, LeadStatus status) {
+}
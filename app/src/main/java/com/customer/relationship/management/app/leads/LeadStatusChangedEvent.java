@@ -0,0 +1,8 @@
+package com.customer.relationship.management.app.leads;
+
+/**
+ * A lead moved to {@code status}. For {@code CLOSED_WON} the lead has been converted to a sale and no
+ * longer exists.
+ */
+public record LeadStatusChangedEvent(Long leadId, LeadStatus status) {
+}
@@ -1,12 +1,11 @@
 package com.customer.relationship.management.app.notes;
 
 import com.customer.relationship.management.app.accounts.UpdateNoteDTO;
-import com.customer.relationship.management.app.users.User;
-import com.customer.relationship.management.app.users.UserRepository;
+import com.customer.relationship.management.app.users.CurrentUser;
+import com.customer.relationship.management.app.users.UserView;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -16,22 +15,16 @@ import java.util.List;
 public class NoteController {
 
     private final NoteService noteService;
-    private final UserRepository userRepository;
 
-    public NoteController(NoteService noteService, UserRepository userRepository) {
+    public NoteController(NoteService noteService) {
         this.noteService = noteService;
-        this.userRepository = userRepository;
     }
 
     @PostMapping
     @PreAuthorize("hasRole('SALESPERSON') or hasRole('MANAGER')")
     public ResponseEntity<NoteDTO> createNote(
             @RequestBody CreateNoteDTO createNoteDTO,
-            Authentication authentication) {
-        String email = authentication.getName();
-        User currentUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
+            @CurrentUser UserView currentUser) {
         Note createdNote = noteService.createNote(createNoteDTO, currentUser);
         return ResponseEntity.status(HttpStatus.CREATED).body(new NoteDTO(createdNote));
     }
@@ -40,11 +33,7 @@ public class NoteController {
     @PreAuthorize("hasRole('SALESPERSON') or hasRole('MANAGER')")
     public ResponseEntity<List<NoteDTO>> getNotesByAccount(
             @PathVariable Long accountId,
-            Authentication authentication) {
-        String email = authentication.getName();
-        User currentUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
+            @CurrentUser UserView currentUser) {
         List<Note> notes = noteService.getNotesByAccount(accountId, currentUser);
         List<NoteDTO> noteDTOs = notes.stream()
                 .map(NoteDTO::new)
@@ -58,11 +47,7 @@ public class NoteController {
     public ResponseEntity<NoteDTO> updateNote(
             @PathVariable Long noteId,
             @RequestBody UpdateNoteDTO updateNoteDTO,
-            Authentication authentication) {
-        String email = authentication.getName();
-        User currentUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
+            @CurrentUser UserView currentUser) {
         Note updatedNote = noteService.updateNote(noteId, updateNoteDTO, currentUser);
         return ResponseEntity.ok(new NoteDTO(updatedNote));
     }
@@ -71,11 +56,7 @@ public class NoteController {
     @PreAuthorize("hasRole('SALESPERSON') or hasRole('MANAGER')")
     public ResponseEntity<Void> deleteNote(
             @PathVariable Long noteId,
-            Authentication authentication) {
-        String email = authentication.getName();
-        User currentUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
+            @CurrentUser UserView currentUser) {
         noteService.deleteNote(noteId, currentUser);
         return ResponseEntity.ok().build();
     }
@@ -0,0 +1,8 @@
+package com.customer.relationship.management.app.notes;
+
+public record NoteCreatedEvent(Long noteId, Long accountId, NoteType noteType) {
+
+    public static NoteCreatedEvent of(Note note) {
+        return new NoteCreatedEvent(note.getId(), note.getAccount().getId(), note.getNoteType());
+    }
+}
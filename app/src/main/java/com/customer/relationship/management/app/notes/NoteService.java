@@ -3,8 +3,9 @@ package com.customer.relationship.management.app.notes;
 import com.customer.relationship.management.app.accounts.Account;
 import com.customer.relationship.management.app.accounts.AccountRepository;
 import com.customer.relationship.management.app.accounts.UpdateNoteDTO;
-import com.customer.relationship.management.app.users.User;
+import com.customer.relationship.management.app.config.outbox.Outbox;
 import com.customer.relationship.management.app.users.UserRole;
+import com.customer.relationship.management.app.users.UserView;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,14 +18,16 @@ public class NoteService {
 
     private final NoteRepository noteRepository;
     private final AccountRepository accountRepository;
+    private final Outbox outbox;
 
-    public NoteService(NoteRepository noteRepository, AccountRepository accountRepository) {
+    public NoteService(NoteRepository noteRepository, AccountRepository accountRepository, Outbox outbox) {
         this.noteRepository = noteRepository;
         this.accountRepository = accountRepository;
+        this.outbox = outbox;
     }
 
     @Transactional
-    public Note createNote(CreateNoteDTO createNoteDTO, User currentUser) {
+    public Note createNote(CreateNoteDTO createNoteDTO, UserView currentUser) {
         Account account = accountRepository.findById(createNoteDTO.getAccountId())
                 .orElseThrow(() -> new RuntimeException("Account not found"));
 
@@ -38,11 +41,13 @@ public class NoteService {
         note.setNoteDate(createNoteDTO.getNoteDate() != null ? createNoteDTO.getNoteDate() : LocalDateTime.now());
         note.setAccount(account);
 
-        return noteRepository.save(note);
+        Note saved = noteRepository.save(note);
+        outbox.append(NoteCreatedEvent.of(saved));
+        return saved;
     }
 
     @Transactional(readOnly = true)
-    public List<Note> getNotesByAccount(Long accountId, User currentUser) {
+    public List<Note> getNotesByAccount(Long accountId, UserView currentUser) {
         Account account = accountRepository.findById(accountId)
                 .orElseThrow(() -> new RuntimeException("Account not found"));
 
@@ -55,7 +60,7 @@ public class NoteService {
     }
 
     @Transactional
-    public Note updateNote(Long noteId, UpdateNoteDTO updateNoteDTO, User currentUser) {
+    public Note updateNote(Long noteId, UpdateNoteDTO updateNoteDTO, UserView currentUser) {
         Note note = noteRepository.findById(noteId)
                 .orElseThrow(() -> new RuntimeException("Note not found"));
 
@@ -77,7 +82,7 @@ public class NoteService {
     }
 
     @Transactional
-    public void deleteNote(Long noteId, User currentUser) {
+    public void deleteNote(Long noteId, UserView currentUser) {
         Note note = noteRepository.findById(noteId)
                 .orElseThrow(() -> new RuntimeException("Note not found"));
 
@@ -88,11 +93,11 @@ public class NoteService {
         noteRepository.delete(note);
     }
 
-    private boolean canAccessAccount(Account account, User currentUser) {
-        if (currentUser.getRole() == UserRole.MANAGER) {
-            return account.getUser().getTeam() != null && 
-                   account.getUser().getTeam().equals(currentUser.getTeam());
+    private boolean canAccessAccount(Account account, UserView currentUser) {
+        if (currentUser.role() == UserRole.MANAGER) {
+            return account.getUser().getTeam() != null &&
+                   account.getUser().getTeam().getId().equals(currentUser.teamId());
         }
-        return account.getUser().getId().equals(currentUser.getId());
+        return account.getUser().getId().equals(currentUser.id());
     }
 } 
\ No newline at end of file
@@ -0,0 +1,240 @@
+package com.customer.relationship.management.app.sales;
+
+import com.customer.relationship.management.app.users.UserRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory ranking for the current month. Seeded from {@code sales} at startup and updated by
+ * {@link SaleBookingService} right after each booking commits, so reading it never touches the database and
+ * never lags behind the committed sales. Amounts are kept as cents in {@link LongAdder}s, which lets
+ * concurrent sale commits update without locking.
+ * <p>
+ * A sale committed while the seed runs can reach the board both ways. Until the seed is applied the board
+ * remembers the ids it counted from events; afterwards it only keeps the highest seeded sale id and skips
+ * events at or below it. A sale whose id was handed out before that maximum but which committed after the
+ * seed's query is therefore missed until the next restart; that needs two bookings racing the startup seed.
+ * <p>
+ * Deleting or renaming a user goes through {@link #removeRep(Long)} and {@link #renameRep(Long, String, String)},
+ * which, like bookings, apply once the change commits.
+ */
+@Component
+@Log4j2
+public class LiveSalesLeaderboard {
+
+    private final SaleRepository saleRepository;
+    private final UserRepository userRepository;
+
+    private volatile MonthBoard board = new MonthBoard(YearMonth.now(), false);
+
+    public LiveSalesLeaderboard(SaleRepository saleRepository, UserRepository userRepository) {
+        this.saleRepository = saleRepository;
+        this.userRepository = userRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        // merged into the live board rather than replacing it, so sales counted meanwhile are kept
+        MonthBoard current = currentBoard();
+        List<Object[]> rows = saleRepository.findSalesClosedBetween(
+                current.period.atDay(1).atStartOfDay(),
+                current.period.plusMonths(1).atDay(1).atStartOfDay()
+        );
+        current.applySeed(rows);
+
+        log.info("Seeded live sales leaderboard for {} with {} sales", current.period, rows.size());
+    }
+
+    /**
+     * Counts the sales once the surrounding transaction commits; a rolled back booking never shows up.
+     */
+    public void onSalesBooked(List<SaleClosedEvent> events) {
+        afterCommit(() -> events.forEach(this::onSaleClosed));
+    }
+
+    public void onSaleClosed(SaleClosedEvent event) {
+        MonthBoard current = currentBoard();
+        if (!current.period.equals(YearMonth.from(event.closeDate())) || !current.shouldCount(event.saleId())) {
+            return;
+        }
+
+        RepTally tally = current.tallies.get(event.salesRepId());
+        if (tally == null) {
+            tally = userRepository.findById(event.salesRepId())
+                    .map(rep -> current.tally(rep.getId(), rep.getFirstName(), rep.getLastName()))
+                    .orElse(null);
+        }
+        if (tally != null) {
+            tally.add(toCents(event.amount()), 1);
+        }
+    }
+
+    /**
+     * Drops a deleted user from the board once the deletion commits.
+     */
+    public void removeRep(Long userId) {
+        afterCommit(() -> currentBoard().tallies.remove(userId));
+    }
+
+    /**
+     * Updates the name shown for a user once the change commits.
+     */
+    public void renameRep(Long userId, String firstName, String lastName) {
+        afterCommit(() -> {
+            RepTally tally = currentBoard().tallies.get(userId);
+            if (tally != null) {
+                tally.rename(firstName, lastName);
+            }
+        });
+    }
+
+    public boolean covers(int year, int month) {
+        return YearMonth.of(year, month).equals(YearMonth.now());
+    }
+
+    public List<SalesRankingDTO> getRanking(Integer limit, RankingCursor after) {
+        MonthBoard current = currentBoard();
+        List<SalesRankingDTO> candidates = new ArrayList<>(current.tallies.size());
+        for (RepTally tally : current.tallies.values()) {
+            SalesRankingDTO ranking = tally.toRanking(current.period);
+            if (after == null || after.precedes(ranking)) {
+                candidates.add(ranking);
+            }
+        }
+        return SalesRankingService.rank(candidates, limit);
+    }
+
+    private MonthBoard currentBoard() {
+        YearMonth now = YearMonth.now();
+        MonthBoard current = board;
+        if (!current.period.equals(now)) {
+            synchronized (this) {
+                if (!board.period.equals(now)) {
+                    board = new MonthBoard(now, board.seeded);
+                }
+                current = board;
+            }
+        }
+        return current;
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static final class MonthBoard {
+        private final YearMonth period;
+        private final ConcurrentMap<Long, RepTally> tallies = new ConcurrentHashMap<>();
+        // sales counted before the seed was applied, dropped once it is
+        private Set<Long> unseededSaleIds;
+        private volatile long seededThroughSaleId;
+        private volatile boolean seeded;
+
+        private MonthBoard(YearMonth period, boolean seeded) {
+            this.period = period;
+            this.seeded = seeded;
+            this.unseededSaleIds = seeded ? null : new HashSet<>();
+        }
+
+        /**
+         * @return {@code false} if the sale is already part of the seed
+         */
+        private boolean shouldCount(long saleId) {
+            if (!seeded) {
+                synchronized (this) {
+                    if (!seeded) {
+                        unseededSaleIds.add(saleId);
+                        return true;
+                    }
+                }
+            }
+            return saleId > seededThroughSaleId;
+        }
+
+        private synchronized void applySeed(List<Object[]> rows) {
+            if (seeded) {
+                return;
+            }
+            long maxSaleId = 0;
+            for (Object[] row : rows) {
+                long saleId = (Long) row[0];
+                maxSaleId = Math.max(maxSaleId, saleId);
+                if (!unseededSaleIds.contains(saleId)) {
+                    tally((Long) row[1], (String) row[2], (String) row[3]).add(toCents((BigDecimal) row[4]), 1);
+                }
+            }
+            seededThroughSaleId = maxSaleId;
+            unseededSaleIds = null;
+            seeded = true;
+        }
+
+        private RepTally tally(Long userId, String firstName, String lastName) {
+            return tallies.computeIfAbsent(userId, id -> new RepTally(id, firstName, lastName));
+        }
+    }
+
+    private static final class RepTally {
+        private final Long userId;
+        private volatile RepName name;
+        private final LongAdder amountCents = new LongAdder();
+        private final LongAdder deals = new LongAdder();
+
+        private RepTally(Long userId, String firstName, String lastName) {
+            this.userId = userId;
+            this.name = new RepName(firstName, lastName);
+        }
+
+        private void rename(String firstName, String lastName) {
+            name = new RepName(firstName, lastName);
+        }
+
+        private void add(long cents, long dealsCount) {
+            amountCents.add(cents);
+            deals.add(dealsCount);
+        }
+
+        private SalesRankingDTO toRanking(YearMonth period) {
+            RepName current = name;
+            return new SalesRankingDTO(
+                    userId,
+                    current.firstName(),
+                    current.lastName(),
+                    period.getYear(),
+                    period.getMonthValue(),
+                    BigDecimal.valueOf(amountCents.sum(), 2),
+                    deals.sum()
+            );
+        }
+    }
+
+    private record RepName(String firstName, String lastName) {
+    }
+}
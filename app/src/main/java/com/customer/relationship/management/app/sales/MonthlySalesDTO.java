@@ -0,0 +1,5 @@
+package com.customer.relationship.management.app.sales;
+
+import java.math.BigDecimal;
+
+public record MonthlySalesDTO(int year, int month, BigDecimal totalAmount, long dealsCount) {}
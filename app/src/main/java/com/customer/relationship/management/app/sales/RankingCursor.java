@@ -0,0 +1,37 @@
+package com.customer.relationship.management.app.sales;
+
+import java.math.BigDecimal;
+
+/**
+ * Keyset position in the ranking order ({@code totalAmount DESC, dealsCount DESC, userId ASC}).
+ * Serialized as {@code totalAmount,dealsCount,userId}, i.e. the values of the last row a client has seen.
+ */
+public record RankingCursor(BigDecimal totalAmount, long dealsCount, long userId) {
+
+    public static RankingCursor parse(String value) {
+        String[] parts = value.split(",");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Cursor must have the form totalAmount,dealsCount,userId");
+        }
+        try {
+            return new RankingCursor(
+                    new BigDecimal(parts[0].trim()),
+                    Long.parseLong(parts[1].trim()),
+                    Long.parseLong(parts[2].trim())
+            );
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid ranking cursor: " + value);
+        }
+    }
+
+    boolean precedes(SalesRankingDTO ranking) {
+        int byAmount = ranking.getTotalAmount().compareTo(totalAmount);
+        if (byAmount != 0) {
+            return byAmount < 0;
+        }
+        if (ranking.getDealsCount() != dealsCount) {
+            return ranking.getDealsCount() < dealsCount;
+        }
+        return ranking.getUserId() > userId;
+    }
+}
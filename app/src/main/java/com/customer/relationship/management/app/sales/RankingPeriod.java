@@ -0,0 +1,21 @@
+package com.customer.relationship.management.app.sales;
+
+import java.time.LocalDate;
+
+/**
+ * Period-to-date ranking windows. Each period starts at {@link #startDate(LocalDate)} and runs
+ * through the given day inclusive.
+ */
+public enum RankingPeriod {
+    QUARTER,
+    YTD,
+    ROLLING_90D;
+
+    public LocalDate startDate(LocalDate today) {
+        return switch (this) {
+            case QUARTER -> today.withMonth(today.getMonth().firstMonthOfQuarter().getValue()).withDayOfMonth(1);
+            case YTD -> today.withDayOfYear(1);
+            case ROLLING_90D -> today.minusDays(89);
+        };
+    }
+}
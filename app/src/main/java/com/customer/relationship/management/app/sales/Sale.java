@@ -9,7 +9,13 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "sales")
+@Table(
+        name = "sales",
+        indexes = {
+                @Index(name = "idx_sales_close_date_rep", columnList = "close_date, sales_rep_id"),
+                @Index(name = "idx_sales_rep_close_date", columnList = "sales_rep_id, close_date")
+        }
+)
 @Getter
 @Setter
 public class Sale {
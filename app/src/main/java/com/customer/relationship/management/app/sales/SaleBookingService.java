@@ -0,0 +1,86 @@
+package com.customer.relationship.management.app.sales;
+
+import com.customer.relationship.management.app.config.cache.ReportCacheInvalidator;
+import com.customer.relationship.management.app.config.outbox.Outbox;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Books closed sales: inserts them as one JDBC batch, folds them into the monthly rollup and records a
+ * {@link SaleClosedEvent} for each in the {@link Outbox}. Runs inside the caller's transaction so the sales, the rollup and
+ * whatever the caller changes alongside them commit or roll back together.
+ * <p>
+ * The in-process views of sales, the {@link LiveSalesLeaderboard} and the report caches, are updated straight
+ * after the commit rather than through the outbox, so they do not trail the write by a dispatcher poll.
+ */
+@Service
+public class SaleBookingService {
+
+    private static final String INSERT_SALE = "INSERT INTO sales (sales_rep_id, amount, close_date) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SalesRollupService salesRollupService;
+    private final Outbox outbox;
+    private final LiveSalesLeaderboard liveSalesLeaderboard;
+    private final ReportCacheInvalidator reportCacheInvalidator;
+
+    public SaleBookingService(JdbcTemplate jdbcTemplate, SalesRollupService salesRollupService, Outbox outbox,
+                              LiveSalesLeaderboard liveSalesLeaderboard, ReportCacheInvalidator reportCacheInvalidator) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.salesRollupService = salesRollupService;
+        this.outbox = outbox;
+        this.liveSalesLeaderboard = liveSalesLeaderboard;
+        this.reportCacheInvalidator = reportCacheInvalidator;
+    }
+
+    /**
+     * @param sales new sales with a sales rep, amount and close date; their ids are set on return
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void bookAll(List<Sale> sales) {
+        if (sales.isEmpty()) {
+            return;
+        }
+
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SALE, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Sale sale = sales.get(i);
+                        ps.setLong(1, sale.getSalesRep().getId());
+                        ps.setBigDecimal(2, sale.getAmount());
+                        ps.setTimestamp(3, Timestamp.valueOf(sale.getCloseDate()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return sales.size();
+                    }
+                },
+                keys
+        );
+        List<Map<String, Object>> generated = keys.getKeyList();
+        for (int i = 0; i < sales.size(); i++) {
+            sales.get(i).setId(((Number) generated.get(i).values().iterator().next()).longValue());
+        }
+
+        salesRollupService.recordSales(sales);
+        List<SaleClosedEvent> events = sales.stream().map(SaleClosedEvent::of).toList();
+        outbox.appendAll(events);
+        liveSalesLeaderboard.onSalesBooked(events);
+        reportCacheInvalidator.evictSales(events);
+    }
+}
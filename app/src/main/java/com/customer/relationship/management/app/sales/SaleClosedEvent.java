@@ -0,0 +1,16 @@
+package com.customer.relationship.management.app.sales;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Recorded in the outbox by the transaction that books a sale and delivered to
+ * {@link com.customer.relationship.management.app.config.outbox.OutboxSubscriber}s after it commits. The
+ * {@link LiveSalesLeaderboard} and the report caches get it directly from {@link SaleBookingService} instead.
+ */
+public record SaleClosedEvent(Long saleId, Long salesRepId, BigDecimal amount, LocalDateTime closeDate) {
+
+    public static SaleClosedEvent of(Sale sale) {
+        return new SaleClosedEvent(sale.getId(), sale.getSalesRep().getId(), sale.getAmount(), sale.getCloseDate());
+    }
+}
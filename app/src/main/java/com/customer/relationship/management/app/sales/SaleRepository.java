@@ -5,28 +5,45 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface SaleRepository extends JpaRepository<Sale, Long> {
 
-    @Query("SELECT s.salesRep.id, SUM(s.amount), COUNT(s) " +
+    @Query("SELECT s.salesRep.id, YEAR(s.closeDate), MONTH(s.closeDate), SUM(s.amount), COUNT(s) " +
             "FROM Sale s " +
-            "WHERE YEAR(s.closeDate) = :year AND MONTH(s.closeDate) = :month " +
-            "GROUP BY s.salesRep.id")
-    List<Object[]> findSalesPerformance(@Param("year") int year, @Param("month") int month);
+            "GROUP BY s.salesRep.id, YEAR(s.closeDate), MONTH(s.closeDate)")
+    List<Object[]> findMonthlyPerformance();
 
+    // Half-open range on the raw column keeps the predicate sargable for idx_sales_close_date_rep
+    @Query("SELECT s.salesRep.id, YEAR(s.closeDate), MONTH(s.closeDate), SUM(s.amount), COUNT(s) " +
+            "FROM Sale s " +
+            "WHERE s.closeDate >= :from AND s.closeDate < :to " +
+            "GROUP BY s.salesRep.id, YEAR(s.closeDate), MONTH(s.closeDate)")
+    List<Object[]> findMonthlyPerformance(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    @Query("SELECT s.id, sr.id, sr.firstName, sr.lastName, s.amount " +
+            "FROM Sale s " +
+            "JOIN s.salesRep sr " +
+            "WHERE s.closeDate >= :from AND s.closeDate < :to")
+    List<Object[]> findSalesClosedBetween(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
 
-    @Query("SELECT t.id, t.name, SUM(s.amount), COUNT(s), COUNT(DISTINCT sr) " +
+    @Query("SELECT sr.id, sr.firstName, sr.lastName, YEAR(s.closeDate), MONTH(s.closeDate), SUM(s.amount), COUNT(s) " +
             "FROM Sale s " +
             "JOIN s.salesRep sr " +
-            "JOIN sr.team t " +
-            "WHERE YEAR(s.closeDate) = :year " +
-            "AND MONTH(s.closeDate) = :month " +
-            "GROUP BY t.id, t.name")
-    List<Object[]> findTeamSalesPerformance(
-            @Param("year") int year,
-            @Param("month") int month
+            "WHERE s.closeDate >= :from AND s.closeDate < :to " +
+            "GROUP BY sr.id, sr.firstName, sr.lastName, YEAR(s.closeDate), MONTH(s.closeDate) " +
+            "ORDER BY YEAR(s.closeDate), MONTH(s.closeDate)")
+    List<Object[]> findMonthlyRanking(
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
     );
 
     List<Sale> findBySalesRep(User user);
-}
\ No newline at end of file
+}
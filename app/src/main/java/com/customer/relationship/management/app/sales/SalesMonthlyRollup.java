@@ -0,0 +1,44 @@
+package com.customer.relationship.management.app.sales;
+
+import com.customer.relationship.management.app.users.User;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(
+        name = "sales_monthly_rollup",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_sales_monthly_rollup_rep_period",
+                columnNames = {"sales_rep_id", "period_year", "period_month"}
+        ),
+        indexes = @Index(
+                name = "idx_sales_monthly_rollup_ranking",
+                columnList = "period_year, period_month, total_amount DESC, deals_count DESC"
+        )
+)
+@Getter
+@Setter
+public class SalesMonthlyRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "sales_rep_id", nullable = false)
+    private User salesRep;
+
+    @Column(name = "period_year", nullable = false)
+    private int periodYear;
+
+    @Column(name = "period_month", nullable = false)
+    private int periodMonth;
+
+    @Column(name = "total_amount", nullable = false)
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
+    @Column(name = "deals_count", nullable = false)
+    private Long dealsCount = 0L;
+}
@@ -0,0 +1,100 @@
+package com.customer.relationship.management.app.sales;
+
+import com.customer.relationship.management.app.users.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public interface SalesMonthlyRollupRepository extends JpaRepository<SalesMonthlyRollup, Long> {
+
+    @Query("SELECT new com.customer.relationship.management.app.sales.SalesRankingDTO(" +
+            "sr.id, sr.firstName, sr.lastName, r.periodYear, r.periodMonth, r.totalAmount, r.dealsCount) " +
+            "FROM SalesMonthlyRollup r " +
+            "JOIN r.salesRep sr " +
+            "WHERE r.periodYear = :year AND r.periodMonth = :month " +
+            "ORDER BY r.totalAmount DESC, r.dealsCount DESC, sr.id")
+    List<SalesRankingDTO> findSalesRanking(
+            @Param("year") int year,
+            @Param("month") int month,
+            Pageable pageable
+    );
+
+    @Query("SELECT new com.customer.relationship.management.app.sales.SalesRankingDTO(" +
+            "sr.id, sr.firstName, sr.lastName, r.periodYear, r.periodMonth, r.totalAmount, r.dealsCount) " +
+            "FROM SalesMonthlyRollup r " +
+            "JOIN r.salesRep sr " +
+            "WHERE r.periodYear = :year AND r.periodMonth = :month " +
+            "AND (r.totalAmount < :totalAmount " +
+            "OR (r.totalAmount = :totalAmount AND (r.dealsCount < :dealsCount " +
+            "OR (r.dealsCount = :dealsCount AND sr.id > :userId)))) " +
+            "ORDER BY r.totalAmount DESC, r.dealsCount DESC, sr.id")
+    List<SalesRankingDTO> findSalesRankingAfter(
+            @Param("year") int year,
+            @Param("month") int month,
+            @Param("totalAmount") BigDecimal totalAmount,
+            @Param("dealsCount") Long dealsCount,
+            @Param("userId") Long userId,
+            Pageable pageable
+    );
+
+    // Months in [from, to): the BETWEEN on the bare period_year column lets idx_sales_monthly_rollup_ranking
+    // narrow the scan, the month bounds only trim the first and last year
+    @Query("SELECT sr.id, sr.firstName, sr.lastName, r.periodYear, r.periodMonth, r.totalAmount, r.dealsCount " +
+            "FROM SalesMonthlyRollup r " +
+            "JOIN r.salesRep sr " +
+            "WHERE r.periodYear BETWEEN :fromYear AND :toYear " +
+            "AND (r.periodYear > :fromYear OR r.periodMonth >= :fromMonth) " +
+            "AND (r.periodYear < :toYear OR r.periodMonth < :toMonth) " +
+            "ORDER BY r.periodYear, r.periodMonth")
+    List<Object[]> findMonthlyRanking(
+            @Param("fromYear") int fromYear,
+            @Param("fromMonth") int fromMonth,
+            @Param("toYear") int toYear,
+            @Param("toMonth") int toMonth
+    );
+
+    @Query("SELECT t.id, t.name, SUM(r.totalAmount), SUM(r.dealsCount), COUNT(DISTINCT sr) " +
+            "FROM SalesMonthlyRollup r " +
+            "JOIN r.salesRep sr " +
+            "JOIN sr.team t " +
+            "WHERE r.periodYear = :year " +
+            "AND r.periodMonth = :month " +
+            "GROUP BY t.id, t.name")
+    List<Object[]> findTeamSalesPerformance(
+            @Param("year") int year,
+            @Param("month") int month
+    );
+
+    @Modifying
+    @Query("UPDATE SalesMonthlyRollup r " +
+            "SET r.totalAmount = r.totalAmount + :amount, r.dealsCount = r.dealsCount + :deals " +
+            "WHERE r.salesRep.id = :salesRepId AND r.periodYear = :year AND r.periodMonth = :month")
+    int addSales(
+            @Param("salesRepId") Long salesRepId,
+            @Param("year") int year,
+            @Param("month") int month,
+            @Param("amount") BigDecimal amount,
+            @Param("deals") long deals
+    );
+
+    @Modifying
+    @Query("DELETE FROM SalesMonthlyRollup r " +
+            "WHERE r.periodYear BETWEEN :fromYear AND :toYear " +
+            "AND (r.periodYear > :fromYear OR r.periodMonth >= :fromMonth) " +
+            "AND (r.periodYear < :toYear OR r.periodMonth < :toMonth)")
+    void deleteByPeriodBetween(
+            @Param("fromYear") int fromYear,
+            @Param("fromMonth") int fromMonth,
+            @Param("toYear") int toYear,
+            @Param("toMonth") int toMonth
+    );
+
+    @Modifying
+    @Query("DELETE FROM SalesMonthlyRollup r WHERE r.salesRep = :salesRep")
+    void deleteBySalesRep(@Param("salesRep") User salesRep);
+}
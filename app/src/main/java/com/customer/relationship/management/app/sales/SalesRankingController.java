@@ -1,9 +1,11 @@
 package com.customer.relationship.management.app.sales;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -12,18 +14,51 @@ import java.util.List;
 public class SalesRankingController {
 
     private final SalesRankingService salesRankingService;
+    private final LiveSalesLeaderboard liveSalesLeaderboard;
 
-    public SalesRankingController(SalesRankingService salesRankingService) {
+    public SalesRankingController(SalesRankingService salesRankingService, LiveSalesLeaderboard liveSalesLeaderboard) {
         this.salesRankingService = salesRankingService;
+        this.liveSalesLeaderboard = liveSalesLeaderboard;
     }
 
+    /**
+     * Accepts a single {@code year}+{@code month}, an inclusive {@code from}/{@code to} date range,
+     * or a period-to-date {@code period}. {@code limit} caps the rows returned and {@code after}
+     * ({@code totalAmount,dealsCount,userId} of the last row seen) fetches the next page.
+     * The current month is answered from the in-memory {@link LiveSalesLeaderboard}.
+     */
     @GetMapping("/sales")
     @PreAuthorize("hasRole('MANAGER')")
     public ResponseEntity<List<SalesRankingDTO>> getSalesRanking(
-            @RequestParam int year,
-            @RequestParam int month
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) Integer month,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) RankingPeriod period,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String after
     ) {
-        List<SalesRankingDTO> ranking = salesRankingService.getSalesRanking(year, month);
+        if (month != null && (month < 1 || month > 12)) {
+            throw new IllegalArgumentException("Month must be between 1 and 12");
+        }
+        RankingCursor cursor = after != null ? RankingCursor.parse(after) : null;
+        List<SalesRankingDTO> ranking;
+
+        if (period != null) {
+            LocalDate today = LocalDate.now();
+            ranking = salesRankingService.getSalesRanking(period.startDate(today), today.plusDays(1), limit, cursor);
+        } else if (from != null && to != null) {
+            ranking = salesRankingService.getSalesRanking(from, to.plusDays(1), limit, cursor);
+        } else if (year != null && month != null && liveSalesLeaderboard.covers(year, month)) {
+            ranking = liveSalesLeaderboard.getRanking(limit, cursor);
+        } else if (year != null && month != null) {
+            ranking = limit == null && cursor == null
+                    ? salesRankingService.getSalesRanking(year, month)
+                    : salesRankingService.getSalesRanking(year, month, limit, cursor);
+        } else {
+            throw new IllegalArgumentException("Either year and month, from and to, or period is required");
+        }
+
         return ResponseEntity.ok(ranking);
     }
-}
\ No newline at end of file
+}
@@ -1,17 +1,22 @@
 package com.customer.relationship.management.app.sales;
 
 import lombok.Getter;
-import lombok.Setter;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
+/**
+ * Read-only once built: rankings are cached and the same instances are handed to every caller.
+ */
 @Getter
-@Setter
 public class SalesRankingDTO {
     private Long userId;
     private String firstName;
     private String lastName;
     private BigDecimal totalAmount;
     private Long dealsCount;
+    private List<MonthlySalesDTO> monthlyBreakdown = new ArrayList<>();
 
     public SalesRankingDTO(
             Long userId,
@@ -26,4 +31,27 @@ public class SalesRankingDTO {
         this.totalAmount = totalAmount;
         this.dealsCount = dealsCount;
     }
-}
\ No newline at end of file
+
+    public SalesRankingDTO(
+            Long userId,
+            String firstName,
+            String lastName,
+            Integer year,
+            Integer month,
+            BigDecimal totalAmount,
+            Long dealsCount
+    ) {
+        this(userId, firstName, lastName, totalAmount, dealsCount);
+        this.monthlyBreakdown.add(new MonthlySalesDTO(year, month, totalAmount, dealsCount));
+    }
+
+    public List<MonthlySalesDTO> getMonthlyBreakdown() {
+        return Collections.unmodifiableList(monthlyBreakdown);
+    }
+
+    void addMonth(MonthlySalesDTO monthlySales) {
+        this.totalAmount = this.totalAmount.add(monthlySales.totalAmount());
+        this.dealsCount = this.dealsCount + monthlySales.dealsCount();
+        this.monthlyBreakdown.add(monthlySales);
+    }
+}
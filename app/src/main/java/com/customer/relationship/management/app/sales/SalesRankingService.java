@@ -1,72 +1,128 @@
 package com.customer.relationship.management.app.sales;
 
-import com.customer.relationship.management.app.users.User;
-import com.customer.relationship.management.app.users.UserRepository;
+import com.customer.relationship.management.app.config.cache.CacheConfig;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
 import java.math.BigDecimal;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 public class SalesRankingService {
 
+    static final Comparator<SalesRankingDTO> RANKING_ORDER = Comparator
+            .comparing(SalesRankingDTO::getTotalAmount, Comparator.reverseOrder())
+            .thenComparing(SalesRankingDTO::getDealsCount, Comparator.reverseOrder())
+            .thenComparing(SalesRankingDTO::getUserId);
+
+    static final int MAX_LIMIT = 500;
+
+    private final SalesMonthlyRollupRepository rollupRepository;
     private final SaleRepository saleRepository;
-    private final UserRepository userRepository;
 
     public SalesRankingService(
-            SaleRepository saleRepository,
-            UserRepository userRepository
+            SalesMonthlyRollupRepository rollupRepository,
+            SaleRepository saleRepository
     ) {
+        this.rollupRepository = rollupRepository;
         this.saleRepository = saleRepository;
-        this.userRepository = userRepository;
     }
 
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.SALES_RANKING, key = "T(java.time.YearMonth).of(#year, #month)")
     public List<SalesRankingDTO> getSalesRanking(int year, int month) {
-        List<Object[]> results = saleRepository.findSalesPerformance(year, month);
-        Map<Long, SalesAggregate> aggregates = new HashMap<>();
-
-        for (Object[] result : results) {
-            Long userId = (Long) result[0];
-            BigDecimal total = (BigDecimal) result[1];
-            Long count = (Long) result[2];
-            aggregates.put(userId, new SalesAggregate(total, count));
+        // unmodifiable, since every caller shares the cached list
+        return List.copyOf(getSalesRanking(year, month, null, null));
+    }
+
+    /**
+     * Returns up to {@code limit} reps ranked after {@code after} (both optional). Ordering, the keyset
+     * predicate and the limit are all applied by the database.
+     */
+    @Transactional(readOnly = true)
+    public List<SalesRankingDTO> getSalesRanking(int year, int month, Integer limit, RankingCursor after) {
+        Pageable pageable = limit != null ? PageRequest.of(0, validateLimit(limit)) : Pageable.unpaged();
+
+        if (after == null) {
+            return rollupRepository.findSalesRanking(year, month, pageable);
         }
+        return rollupRepository.findSalesRankingAfter(
+                year,
+                month,
+                after.totalAmount(),
+                after.dealsCount(),
+                after.userId(),
+                pageable
+        );
+    }
 
-        return aggregates.entrySet().stream()
-                .map(entry -> {
-                    Long userId = entry.getKey();
-                    SalesAggregate agg = entry.getValue();
-                    User user = userRepository.findById(userId).orElseThrow();
-                    return new SalesRankingDTO(
-                            userId,
-                            user.getFirstName(),
-                            user.getLastName(),
-                            agg.getTotalAmount(),
-                            agg.getDealsCount()
-                    );
-                })
-                .sorted(Comparator
-                        .comparing(SalesRankingDTO::getTotalAmount).reversed()
-                        .thenComparing(SalesRankingDTO::getDealsCount).reversed()
-                )
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<SalesRankingDTO> getSalesRanking(LocalDate from, LocalDate to) {
+        return getSalesRanking(from, to, null, null);
     }
 
-    private static class SalesAggregate {
-        private final BigDecimal totalAmount;
-        private final Long dealsCount;
+    /**
+     * Ranks reps over {@code [from, to)} with a per-month breakdown. Whole-month ranges are merged
+     * from the rollup; anything else is aggregated from {@code sales} in one range query. The merged
+     * ranking lives in memory, so a {@code limit} is served from a bounded heap rather than a full sort.
+     */
+    @Transactional(readOnly = true)
+    public List<SalesRankingDTO> getSalesRanking(LocalDate from, LocalDate to, Integer limit, RankingCursor after) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Ranking range must end after it starts");
+        }
+
+        List<Object[]> rows = from.getDayOfMonth() == 1 && to.getDayOfMonth() == 1
+                ? rollupRepository.findMonthlyRanking(
+                        from.getYear(), from.getMonthValue(), to.getYear(), to.getMonthValue())
+                : saleRepository.findMonthlyRanking(from.atStartOfDay(), to.atStartOfDay());
 
-        public SalesAggregate(BigDecimal totalAmount, Long dealsCount) {
-            this.totalAmount = totalAmount;
-            this.dealsCount = dealsCount;
+        Collection<SalesRankingDTO> candidates = mergeMonths(rows).values();
+        if (after != null) {
+            candidates = candidates.stream().filter(after::precedes).toList();
         }
+        return rank(candidates, limit);
+    }
 
-        public BigDecimal getTotalAmount() {
-            return totalAmount;
+    static List<SalesRankingDTO> rank(Collection<SalesRankingDTO> candidates, Integer limit) {
+        if (limit == null) {
+            return candidates.stream().sorted(RANKING_ORDER).toList();
         }
+        return TopK.select(candidates, RANKING_ORDER, validateLimit(limit));
+    }
+
+    private static int validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        return limit;
+    }
 
-        public Long getDealsCount() {
-            return dealsCount;
+    private Map<Long, SalesRankingDTO> mergeMonths(List<Object[]> rows) {
+        Map<Long, SalesRankingDTO> rankingByRep = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            SalesRankingDTO ranking = rankingByRep.computeIfAbsent((Long) row[0], userId -> new SalesRankingDTO(
+                    userId,
+                    (String) row[1],
+                    (String) row[2],
+                    BigDecimal.ZERO,
+                    0L
+            ));
+            ranking.addMonth(new MonthlySalesDTO(
+                    ((Number) row[3]).intValue(),
+                    ((Number) row[4]).intValue(),
+                    (BigDecimal) row[5],
+                    (Long) row[6]
+            ));
         }
+        return rankingByRep;
     }
-}
\ No newline at end of file
+}
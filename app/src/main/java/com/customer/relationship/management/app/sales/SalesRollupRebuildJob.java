@@ -0,0 +1,32 @@
+package com.customer.relationship.management.app.sales;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+/**
+ * Periodically reconciles the most recent months of the rollup with {@code sales}, picking up
+ * rows written outside of {@code LeadService} (imports, manual fixes).
+ */
+@Component
+class SalesRollupRebuildJob {
+
+    private final SalesRollupService salesRollupService;
+    private final int monthsBack;
+
+    SalesRollupRebuildJob(
+            SalesRollupService salesRollupService,
+            @Value("${crm.sales.rollup.rebuild-months:2}") int monthsBack
+    ) {
+        this.salesRollupService = salesRollupService;
+        this.monthsBack = monthsBack;
+    }
+
+    @Scheduled(cron = "${crm.sales.rollup.rebuild-cron:0 0 3 * * *}")
+    void rebuild() {
+        YearMonth current = YearMonth.now();
+        salesRollupService.rebuild(current.minusMonths(monthsBack - 1L), current.plusMonths(1));
+    }
+}
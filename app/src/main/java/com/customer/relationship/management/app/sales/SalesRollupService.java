@@ -0,0 +1,158 @@
+package com.customer.relationship.management.app.sales;
+
+import com.customer.relationship.management.app.config.cache.ReportCacheInvalidator;
+import com.customer.relationship.management.app.users.UserRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Savepoint;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the per-rep, per-month sales rollup that backs the ranking and team reports.
+ * Sales are added incrementally as they are closed; {@link #rebuild()} recomputes the
+ * whole table from {@code sales} and {@link #rebuild(YearMonth, YearMonth)} only a window of months.
+ * <p>
+ * Adding to a rep's month is an update, falling back to an insert for the first sale of that month. Two
+ * transactions racing on that first sale both try to insert; the loser waits on the unique key until the
+ * winner commits, gets a duplicate key error and retries the update. The insert runs under a savepoint that
+ * the loser rolls back to, since some databases (PostgreSQL) refuse any further statement in a transaction
+ * after a failed one.
+ */
+@Service
+@Log4j2
+public class SalesRollupService {
+
+    private static final String INSERT_ROLLUP = "INSERT INTO sales_monthly_rollup " +
+            "(sales_rep_id, period_year, period_month, total_amount, deals_count) VALUES (?, ?, ?, ?, ?)";
+
+    private final SalesMonthlyRollupRepository rollupRepository;
+    private final SaleRepository saleRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ReportCacheInvalidator reportCacheInvalidator;
+
+    public SalesRollupService(
+            SalesMonthlyRollupRepository rollupRepository,
+            SaleRepository saleRepository,
+            UserRepository userRepository,
+            JdbcTemplate jdbcTemplate,
+            ReportCacheInvalidator reportCacheInvalidator
+    ) {
+        this.rollupRepository = rollupRepository;
+        this.saleRepository = saleRepository;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.reportCacheInvalidator = reportCacheInvalidator;
+    }
+
+    /**
+     * Adds the sale to its rollup row. Must run inside the transaction that persists the sale,
+     * so the rollup never diverges from {@code sales}.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordSale(Sale sale) {
+        add(RepMonth.of(sale), sale.getAmount(), 1);
+    }
+
+    /**
+     * Same as {@link #recordSale} for many sales at once: one update per rep and month they fall into.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordSales(List<Sale> sales) {
+        Map<RepMonth, List<Sale>> byRepMonth = sales.stream()
+                .collect(Collectors.groupingBy(RepMonth::of, LinkedHashMap::new, Collectors.toList()));
+
+        byRepMonth.forEach((repMonth, group) -> {
+            BigDecimal amount = group.stream().map(Sale::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+            add(repMonth, amount, group.size());
+        });
+    }
+
+    private void add(RepMonth repMonth, BigDecimal amount, long deals) {
+        if (addToExisting(repMonth, amount, deals)) {
+            return;
+        }
+        // plain JDBC: a failed repository save would mark the whole transaction rollback-only
+        Savepoint savepoint = jdbcTemplate.execute((ConnectionCallback<Savepoint>) connection -> connection.setSavepoint());
+        try {
+            jdbcTemplate.update(INSERT_ROLLUP,
+                    repMonth.salesRepId(), repMonth.year(), repMonth.month(), amount, deals);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                connection.rollback(savepoint);
+                return null;
+            });
+            if (!addToExisting(repMonth, amount, deals)) {
+                throw e;
+            }
+            return;
+        }
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            connection.releaseSavepoint(savepoint);
+            return null;
+        });
+    }
+
+    private boolean addToExisting(RepMonth repMonth, BigDecimal amount, long deals) {
+        return rollupRepository.addSales(repMonth.salesRepId(), repMonth.year(), repMonth.month(), amount, deals) > 0;
+    }
+
+    @Transactional
+    public void rebuild() {
+        rollupRepository.deleteAllInBatch();
+
+        List<SalesMonthlyRollup> rollups = toRollups(saleRepository.findMonthlyPerformance());
+        rollupRepository.saveAll(rollups);
+        reportCacheInvalidator.evictAll();
+        log.info("Rebuilt sales rollup: {} rep-month rows", rollups.size());
+    }
+
+    /**
+     * Recomputes the rollup for months in {@code [from, to)}. Reads {@code sales} with a
+     * close-date range, so only the affected slice of the index is scanned.
+     */
+    @Transactional
+    public void rebuild(YearMonth from, YearMonth to) {
+        rollupRepository.deleteByPeriodBetween(from.getYear(), from.getMonthValue(), to.getYear(), to.getMonthValue());
+
+        List<SalesMonthlyRollup> rollups = toRollups(saleRepository.findMonthlyPerformance(
+                from.atDay(1).atStartOfDay(),
+                to.atDay(1).atStartOfDay()
+        ));
+        rollupRepository.saveAll(rollups);
+        reportCacheInvalidator.evictMonths(from, to);
+        log.info("Rebuilt sales rollup for {} - {}: {} rep-month rows", from, to, rollups.size());
+    }
+
+    private List<SalesMonthlyRollup> toRollups(List<Object[]> rows) {
+        return rows.stream()
+                .map(row -> {
+                    SalesMonthlyRollup rollup = new SalesMonthlyRollup();
+                    rollup.setSalesRep(userRepository.getReferenceById((Long) row[0]));
+                    rollup.setPeriodYear(((Number) row[1]).intValue());
+                    rollup.setPeriodMonth(((Number) row[2]).intValue());
+                    rollup.setTotalAmount((BigDecimal) row[3]);
+                    rollup.setDealsCount((Long) row[4]);
+                    return rollup;
+                })
+                .toList();
+    }
+
+    private record RepMonth(Long salesRepId, int year, int month) {
+
+        static RepMonth of(Sale sale) {
+            return new RepMonth(sale.getSalesRep().getId(), sale.getCloseDate().getYear(), sale.getCloseDate().getMonthValue());
+        }
+    }
+}
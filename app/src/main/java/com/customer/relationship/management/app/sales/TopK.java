@@ -0,0 +1,33 @@
+package com.customer.relationship.management.app.sales;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Selects the first {@code k} elements in a given order with a bounded heap, so picking the top
+ * rows of a large in-memory ranking costs O(n log k) instead of a full sort.
+ */
+final class TopK {
+
+    private TopK() {
+    }
+
+    static <T> List<T> select(Iterable<T> candidates, Comparator<? super T> order, int k) {
+        // Max-heap on the ranking order: the head is the worst of the current top k
+        PriorityQueue<T> heap = new PriorityQueue<>(k + 1, order.reversed());
+        for (T candidate : candidates) {
+            if (heap.size() < k) {
+                heap.add(candidate);
+            } else if (order.compare(candidate, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+
+        List<T> top = new ArrayList<>(heap);
+        top.sort(order);
+        return top;
+    }
+}
@@ -23,6 +23,9 @@ public class TeamReportController {
             @RequestParam int year,
             @RequestParam int month
     ) {
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("Month must be between 1 and 12");
+        }
         List<TeamSalesReportDTO> report = salesReportService.getTeamSalesReport(year, month);
         return ResponseEntity.ok(report);
     }
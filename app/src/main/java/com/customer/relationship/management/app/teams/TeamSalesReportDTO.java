@@ -1,18 +1,19 @@
 package com.customer.relationship.management.app.teams;
 
 import lombok.Getter;
-import lombok.Setter;
 
 import java.math.BigDecimal;
 
+/**
+ * Immutable: reports are cached and the same instances are handed to every caller.
+ */
 @Getter
-@Setter
 public class TeamSalesReportDTO {
-    private Long teamId;
-    private String teamName;
-    private BigDecimal totalSales;
-    private Long dealsCount;
-    private Long teamSize;
+    private final Long teamId;
+    private final String teamName;
+    private final BigDecimal totalSales;
+    private final Long dealsCount;
+    private final Long teamSize;
 
     public TeamSalesReportDTO(
             Long teamId,
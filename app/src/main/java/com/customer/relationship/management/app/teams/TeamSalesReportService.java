@@ -1,24 +1,26 @@
 package com.customer.relationship.management.app.teams;
 
 
-import com.customer.relationship.management.app.sales.SaleRepository;
+import com.customer.relationship.management.app.config.cache.CacheConfig;
+import com.customer.relationship.management.app.sales.SalesMonthlyRollupRepository;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 public class TeamSalesReportService {
 
-    private final SaleRepository saleRepository;
+    private final SalesMonthlyRollupRepository rollupRepository;
 
-    public TeamSalesReportService(SaleRepository saleRepository) {
-        this.saleRepository = saleRepository;
+    public TeamSalesReportService(SalesMonthlyRollupRepository rollupRepository) {
+        this.rollupRepository = rollupRepository;
     }
 
+    @Cacheable(cacheNames = CacheConfig.TEAM_SALES_REPORT, key = "T(java.time.YearMonth).of(#year, #month)")
     public List<TeamSalesReportDTO> getTeamSalesReport(int year, int month) {
-        List<Object[]> results = saleRepository.findTeamSalesPerformance(year, month);
+        List<Object[]> results = rollupRepository.findTeamSalesPerformance(year, month);
 
         return results.stream()
                 .map(result -> new TeamSalesReportDTO(
@@ -29,6 +31,6 @@ public class TeamSalesReportService {
                         (Long) result[4]        // teamSize
                 ))
                 .sorted((t1, t2) -> t2.getTotalSales().compareTo(t1.getTotalSales()))
-                .collect(Collectors.toList());
+                .toList();
     }
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.customer.relationship.management.app.users;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * Principal set by the JWT filter. Carries the user snapshot resolved through {@link PrincipalCache},
+ * so handlers can use it without loading the user again.
+ */
+public record AuthenticatedUser(User user) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return user.getEmail();
+    }
+}
@@ -0,0 +1,17 @@
+package com.customer.relationship.management.app.users;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Injects the authenticated user into a handler method parameter of type {@link UserView},
+ * or {@link User} when the entity itself is needed, e.g. as an owner reference.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+}
@@ -0,0 +1,64 @@
+package com.customer.relationship.management.app.users;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Short-lived, bounded cache of user snapshots keyed by email, used to authenticate requests
+ * without a query each. Entries are detached entities and must be treated as read-only;
+ * {@link UserService} invalidates them when a user is updated or deleted.
+ */
+@Component
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, User> users;
+
+    public PrincipalCache(UserRepository userRepository,
+                          @Value("${crm.security.principal-cache.maximum-size:10000}") long maximumSize,
+                          @Value("${crm.security.principal-cache.ttl:PT2M}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<User> getByEmail(String email) {
+        return Optional.ofNullable(users.get(email, key -> userRepository.findByEmail(key).orElse(null)));
+    }
+
+    /**
+     * The user behind the current request. Falls back to a lookup for principals that were not
+     * set by the JWT filter, e.g. {@code @WithMockUser} in tests.
+     */
+    public User resolve(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof AuthenticatedUser authenticated) {
+            return authenticated.user();
+        }
+        return userRepository.findByEmail(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("User not found"));
+    }
+
+    public void invalidate(String email) {
+        users.invalidate(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // a request may have re-cached the old row before the change was committed
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    users.invalidate(email);
+                }
+            });
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package com.customer.relationship.management.app.users;
 
 import com.customer.relationship.management.app.accounts.*;
+import com.customer.relationship.management.app.config.cache.ReportCacheInvalidator;
 import com.customer.relationship.management.app.leads.Lead;
 import com.customer.relationship.management.app.leads.LeadRepository;
+import com.customer.relationship.management.app.sales.LiveSalesLeaderboard;
 import com.customer.relationship.management.app.sales.Sale;
 import com.customer.relationship.management.app.sales.SaleRepository;
+import com.customer.relationship.management.app.sales.SalesMonthlyRollupRepository;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -21,14 +24,24 @@ public class UserService {
     private final AccountRepository accountRepository;
     private final LeadRepository leadRepository;
     private final SaleRepository saleRepository;
+    private final SalesMonthlyRollupRepository rollupRepository;
+    private final PrincipalCache principalCache;
+    private final ReportCacheInvalidator reportCacheInvalidator;
+    private final LiveSalesLeaderboard liveSalesLeaderboard;
 
     public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
-                       AccountRepository accountRepository, LeadRepository leadRepository, SaleRepository saleRepository) {
+                       AccountRepository accountRepository, LeadRepository leadRepository, SaleRepository saleRepository,
+                       SalesMonthlyRollupRepository rollupRepository, PrincipalCache principalCache,
+                       ReportCacheInvalidator reportCacheInvalidator, LiveSalesLeaderboard liveSalesLeaderboard) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.accountRepository = accountRepository;
         this.leadRepository = leadRepository;
         this.saleRepository = saleRepository;
+        this.rollupRepository = rollupRepository;
+        this.principalCache = principalCache;
+        this.reportCacheInvalidator = reportCacheInvalidator;
+        this.liveSalesLeaderboard = liveSalesLeaderboard;
     }
 
     public User createUser(User user) {
@@ -48,6 +61,7 @@ public class UserService {
     public UserDTO updateUser(Long id, User userDetails) {
         User existing = userRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
+        String previousEmail = existing.getEmail();
 
         existing.setFirstName(userDetails.getFirstName());
         existing.setLastName(userDetails.getLastName());
@@ -61,6 +75,9 @@ public class UserService {
         }
 
         User updated = userRepository.save(existing);
+        principalCache.invalidate(previousEmail);
+        principalCache.invalidate(updated.getEmail());
+        liveSalesLeaderboard.renameRep(updated.getId(), updated.getFirstName(), updated.getLastName());
         return new UserDTO(updated);
     }
 
@@ -74,6 +91,9 @@ public class UserService {
         // 1. Usuń sprzedaże powiązane z użytkownikiem
         List<Sale> sales = saleRepository.findBySalesRep(user);
         saleRepository.deleteAll(sales);
+        rollupRepository.deleteBySalesRep(user);
+        reportCacheInvalidator.evictAll();
+        liveSalesLeaderboard.removeRep(userId);
 
         // 2. Usuń leady i konta
         List<Account> accounts = accountRepository.findByUser(user);
@@ -86,6 +106,7 @@ public class UserService {
 
         // 3. Usuń użytkownika
         userRepository.delete(user);
+        principalCache.invalidate(user.getEmail());
     }
 
 
@@ -0,0 +1,18 @@
+package com.customer.relationship.management.app.users;
+
+/**
+ * The parts of the current user that handlers need for ownership and team checks.
+ * Injected with {@link CurrentUser} from the {@link PrincipalCache} snapshot, without a query; see
+ * {@code CurrentUserArgumentResolver} for why it does not come from the token's claims.
+ */
+public record UserView(Long id, String email, UserRole role, Long teamId) {
+
+    public static UserView of(User user) {
+        return new UserView(
+                user.getId(),
+                user.getEmail(),
+                user.getRole(),
+                user.getTeam() != null ? user.getTeam().getId() : null
+        );
+    }
+}
@@ -0,0 +1,122 @@
+package com.customer.relationship.management.app.accounts;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountOwnershipIndexTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    private AccountOwnershipIndex ownershipIndex;
+
+    @BeforeEach
+    void setUp() {
+        ownershipIndex = new AccountOwnershipIndex(accountRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void isOwnedBy_AfterLoad_ShouldNotQueryAgain() {
+        // given
+        when(accountRepository.findAllOwners()).thenReturn(List.of(new AccountOwner(1L, 10L), new AccountOwner(2L, null)));
+        ownershipIndex.load();
+
+        // when & then
+        assertTrue(ownershipIndex.isOwnedBy(1L, 10L));
+        assertFalse(ownershipIndex.isOwnedBy(1L, 11L));
+        assertFalse(ownershipIndex.isOwnedBy(2L, 10L));
+        verify(accountRepository, never()).findOwner(any());
+    }
+
+    @Test
+    void isOwnedBy_WithUnknownAccount_ShouldLookUpOnce() {
+        // given
+        when(accountRepository.findOwner(5L)).thenReturn(Optional.of(new AccountOwner(5L, 10L)));
+
+        // when
+        boolean first = ownershipIndex.isOwnedBy(5L, 10L);
+        boolean second = ownershipIndex.isOwnedBy(5L, 10L);
+
+        // then
+        assertTrue(first);
+        assertTrue(second);
+        verify(accountRepository, times(1)).findOwner(5L);
+    }
+
+    @Test
+    void assigned_ShouldReplaceOwner() {
+        // given
+        ownershipIndex.assigned(1L, 10L);
+
+        // when
+        ownershipIndex.assigned(1L, 11L);
+
+        // then
+        assertTrue(ownershipIndex.isOwnedBy(1L, 11L));
+        assertFalse(ownershipIndex.isOwnedBy(1L, 10L));
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    void removed_ShouldForgetAccount() {
+        // given
+        ownershipIndex.assigned(1L, 10L);
+
+        // when
+        ownershipIndex.removed(1L);
+
+        // then
+        assertFalse(ownershipIndex.isOwnedBy(1L, 10L));
+        verify(accountRepository).findOwner(1L);
+    }
+
+    @Test
+    void assigned_InRolledBackTransaction_ShouldLeaveIndexUntouched() {
+        // given
+        ownershipIndex.assigned(1L, 10L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        ownershipIndex.assigned(1L, 11L);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // then
+        assertTrue(ownershipIndex.isOwnedBy(1L, 10L));
+    }
+
+    @Test
+    void assigned_InCommittedTransaction_ShouldApplyAfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        ownershipIndex.assigned(1L, 10L);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // then
+        assertTrue(ownershipIndex.isOwnedBy(1L, 10L));
+    }
+}
@@ -1,8 +1,8 @@
 package com.customer.relationship.management.app.accounts;
 
+import com.customer.relationship.management.app.users.PrincipalCache;
 import com.customer.relationship.management.app.users.User;
 import com.customer.relationship.management.app.users.UserRole;
-import com.customer.relationship.management.app.users.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,8 +12,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.AuthorityUtils;
 
-import java.util.Optional;
-
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -21,10 +19,10 @@ import static org.mockito.Mockito.*;
 class AccountSecurityEvaluatorTest {
 
     @Mock
-    private AccountService accountService;
+    private AccountOwnershipIndex ownershipIndex;
 
     @Mock
-    private UserService userService;
+    private PrincipalCache principalCache;
 
     @Mock
     private Authentication authentication;
@@ -32,9 +30,9 @@ class AccountSecurityEvaluatorTest {
     @InjectMocks
     private AccountSecurityEvaluator securityEvaluator;
 
-    private static final String SALESPERSON_EMAIL = "sales@example.com";
     private static final Long ACCOUNT_ID = 1L;
     private static final Long USER_ID = 1L;
+    private static final Long OTHER_USER_ID = 2L;
 
     @BeforeEach
     void setUp() {
@@ -51,7 +49,7 @@ class AccountSecurityEvaluatorTest {
 
         // Then
         assertTrue(result);
-        verify(accountService, never()).findById(any());
+        verifyNoInteractions(ownershipIndex, principalCache);
     }
 
     @Test
@@ -64,49 +62,37 @@ class AccountSecurityEvaluatorTest {
 
         // Then
         assertTrue(result);
-        verify(accountService, never()).findById(any());
+        verifyNoInteractions(ownershipIndex, principalCache);
     }
 
     @Test
     void canAccessAccount_WithSalespersonOwningAccount_ShouldReturnTrue() {
         // Given
         mockUserRole(UserRole.SALESPERSON);
-        when(authentication.getName()).thenReturn(SALESPERSON_EMAIL);
-
-        Account account = new Account();
-        User user = new User();
-        user.setEmail(SALESPERSON_EMAIL);
-        account.setUser(user);
-
-        when(accountService.findById(ACCOUNT_ID)).thenReturn(Optional.of(account));
+        mockCurrentUser(USER_ID);
+        when(ownershipIndex.isOwnedBy(ACCOUNT_ID, USER_ID)).thenReturn(true);
 
         // When
         boolean result = securityEvaluator.canAccessAccount(authentication, ACCOUNT_ID);
 
         // Then
         assertTrue(result);
-        verify(accountService).findById(ACCOUNT_ID);
+        verify(ownershipIndex).isOwnedBy(ACCOUNT_ID, USER_ID);
     }
 
     @Test
     void canAccessAccount_WithSalespersonNotOwningAccount_ShouldReturnFalse() {
         // Given
         mockUserRole(UserRole.SALESPERSON);
-        when(authentication.getName()).thenReturn(SALESPERSON_EMAIL);
-
-        Account account = new Account();
-        User user = new User();
-        user.setEmail("other@example.com");
-        account.setUser(user);
-
-        when(accountService.findById(ACCOUNT_ID)).thenReturn(Optional.of(account));
+        mockCurrentUser(OTHER_USER_ID);
+        when(ownershipIndex.isOwnedBy(ACCOUNT_ID, OTHER_USER_ID)).thenReturn(false);
 
         // When
         boolean result = securityEvaluator.canAccessAccount(authentication, ACCOUNT_ID);
 
         // Then
         assertFalse(result);
-        verify(accountService).findById(ACCOUNT_ID);
+        verify(ownershipIndex).isOwnedBy(ACCOUNT_ID, OTHER_USER_ID);
     }
 
     @Test
@@ -119,7 +105,7 @@ class AccountSecurityEvaluatorTest {
 
         // Then
         assertTrue(result);
-        verify(accountService, never()).findAllByUserId(any());
+        verifyNoInteractions(principalCache);
     }
 
     @Test
@@ -132,19 +118,14 @@ class AccountSecurityEvaluatorTest {
 
         // Then
         assertTrue(result);
-        verify(accountService, never()).findAllByUserId(any());
+        verifyNoInteractions(principalCache);
     }
 
     @Test
     void canAccessUserAccounts_WithSalespersonForOwnUserId_ShouldReturnTrue() {
         // Given
         mockUserRole(UserRole.SALESPERSON);
-        when(authentication.getName()).thenReturn(SALESPERSON_EMAIL);
-
-        User user = new User();
-        user.setEmail(SALESPERSON_EMAIL);
-
-        when(userService.getUserById(USER_ID)).thenReturn(user);
+        mockCurrentUser(USER_ID);
 
         // When
         boolean result = securityEvaluator.canAccessUserAccounts(authentication, USER_ID);
@@ -157,12 +138,7 @@ class AccountSecurityEvaluatorTest {
     void canAccessUserAccounts_WithSalespersonForOtherUserId_ShouldReturnFalse() {
         // Given
         mockUserRole(UserRole.SALESPERSON);
-        when(authentication.getName()).thenReturn(SALESPERSON_EMAIL);
-
-        User user = new User();
-        user.setEmail("other@example.com");
-
-        when(userService.getUserById(USER_ID)).thenReturn(user);
+        mockCurrentUser(OTHER_USER_ID);
 
         // When
         boolean result = securityEvaluator.canAccessUserAccounts(authentication, USER_ID);
@@ -171,6 +147,12 @@ class AccountSecurityEvaluatorTest {
         assertFalse(result);
     }
 
+    private void mockCurrentUser(Long userId) {
+        User user = new User();
+        user.setId(userId);
+        when(principalCache.resolve(authentication)).thenReturn(user);
+    }
+
     private void mockUserRole(UserRole role) {
         doReturn(AuthorityUtils.createAuthorityList("ROLE_" + role.name()))
             .when(authentication).getAuthorities();
@@ -0,0 +1,119 @@
+package com.customer.relationship.management.app.accounts;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyDictionaryTest {
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    private CompanyDictionary companyDictionary;
+
+    @BeforeEach
+    void setUp() {
+        companyDictionary = new CompanyDictionary(companyRepository, 100);
+    }
+
+    @Test
+    void resolve_ShouldSelectOnlyOnceForSameNormalisedCompany() {
+        // given
+        when(companyRepository.findIdByNameAndIndustry("Acme Inc", "Retail")).thenReturn(Optional.of(7L));
+
+        // when
+        Company first = companyDictionary.resolve("Acme Inc", "Retail");
+        Company second = companyDictionary.resolve("  Acme   Inc ", "Retail ");
+
+        // then
+        assertThat(first.getId()).isEqualTo(7L);
+        assertThat(second.getId()).isEqualTo(7L);
+        assertThat(second.getName()).isEqualTo("Acme Inc");
+        verify(companyRepository, times(1)).findIdByNameAndIndustry(any(), any());
+    }
+
+    @Test
+    void resolve_ShouldInsertMissingCompany() {
+        // given
+        when(companyRepository.findIdByNameAndIndustry("Acme", "Retail")).thenReturn(Optional.empty());
+        when(companyRepository.insertIfAbsent("Acme", "Retail")).thenReturn(Optional.of(3L));
+
+        // when
+        Company company = companyDictionary.resolve("Acme", "Retail");
+
+        // then
+        assertThat(company.getId()).isEqualTo(3L);
+        verify(companyRepository).insertIfAbsent("Acme", "Retail");
+    }
+
+    @Test
+    void resolve_ShouldCacheInsertedCompanyOnlyAfterCommit() {
+        // given
+        when(companyRepository.findIdByNameAndIndustry("Acme", "Retail")).thenReturn(Optional.empty());
+        when(companyRepository.insertIfAbsent("Acme", "Retail")).thenReturn(Optional.of(3L));
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            companyDictionary.resolve("Acme", "Retail");
+            Optional<Company> beforeCommit = companyDictionary.find("Acme", "Retail");
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            Optional<Company> afterCommit = companyDictionary.find("Acme", "Retail");
+
+            // then
+            assertThat(beforeCommit).isEmpty();
+            assertThat(afterCommit).map(Company::getId).contains(3L);
+            verify(companyRepository, times(2)).findIdByNameAndIndustry("Acme", "Retail");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void resolve_ShouldReselectWhenConcurrentInsertWins() {
+        // given
+        when(companyRepository.findIdByNameAndIndustry("Acme", "Retail"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(5L));
+        when(companyRepository.insertIfAbsent("Acme", "Retail")).thenReturn(Optional.empty());
+
+        // when
+        Company company = companyDictionary.resolve("Acme", "Retail");
+
+        // then
+        assertThat(company.getId()).isEqualTo(5L);
+    }
+
+    @Test
+    void resolve_ShouldRejectMissingIndustry() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> companyDictionary.resolve("Acme", " "));
+        verifyNoInteractions(companyRepository);
+    }
+
+    @Test
+    void evict_ShouldForgetCompany() {
+        // given
+        when(companyRepository.findIdByNameAndIndustry("Acme", "Retail")).thenReturn(Optional.of(7L));
+        companyDictionary.resolve("Acme", "Retail");
+
+        // when
+        companyDictionary.evict(7L);
+        companyDictionary.resolve("Acme", "Retail");
+
+        // then
+        verify(companyRepository, times(2)).findIdByNameAndIndustry("Acme", "Retail");
+    }
+}
@@ -80,4 +80,42 @@ class JwtUtilTest {
         // When & Then
         assertThrows(RuntimeException.class, () -> jwtUtil.validateToken(null));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void validateToken_CalledTwice_ShouldReturnCachedClaims() {
+        // Given
+        String token = jwtUtil.generateToken(testUser);
+
+        // When
+        Claims first = jwtUtil.validateToken("Bearer " + token);
+        Claims second = jwtUtil.validateToken("Bearer " + token);
+
+        // Then
+        assertSame(first, second);
+    }
+
+    @Test
+    void validateToken_WithTamperedSignatureAfterValidToken_ShouldThrowException() {
+        // Given
+        String token = jwtUtil.generateToken(testUser);
+        jwtUtil.validateToken("Bearer " + token);
+        int i = token.length() - 10;
+        String tampered = token.substring(0, i) + (token.charAt(i) == 'A' ? 'B' : 'A') + token.substring(i + 1);
+
+        // When & Then
+        assertThrows(RuntimeException.class, () -> jwtUtil.validateToken("Bearer " + tampered));
+    }
+
+    @Test
+    void validateToken_WithCacheDisabled_ShouldReturnClaims() {
+        // Given
+        JwtUtil uncached = new JwtUtil(0);
+        String token = uncached.generateToken(testUser);
+
+        // When
+        Claims claims = uncached.validateToken("Bearer " + token);
+
+        // Then
+        assertEquals(testUser.getEmail(), claims.getSubject());
+    }
+}
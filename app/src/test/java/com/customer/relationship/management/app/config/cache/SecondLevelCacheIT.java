@@ -0,0 +1,71 @@
+package com.customer.relationship.management.app.config.cache;
+
+import com.customer.relationship.management.app.accounts.Company;
+import com.customer.relationship.management.app.accounts.CompanyRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheIT {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    private Statistics statistics;
+    private Company company;
+
+    @BeforeEach
+    void setUp() {
+        // committed, so the query cache is not held back by this test's own pending insert
+        company = companyRepository.save(Company.of("Cached Corp", "Retail"));
+        entityManagerFactory.getCache().evictAll();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        companyRepository.delete(company);
+    }
+
+    @Test
+    void company_LoadedTwice_ShouldBeServedFromItsRegionTheSecondTime() {
+        // when
+        // outside a transaction each call gets a fresh persistence context
+        entityManager.find(Company.class, company.getId());
+        entityManager.find(Company.class, company.getId());
+
+        // then
+        assertThat(statistics.getDomainDataRegionStatistics("companies").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findByNameAndIndustry_RepeatedQuery_ShouldHitQueryCache() {
+        // when
+        companyRepository.findByNameAndIndustry("Cached Corp", "Retail");
+        companyRepository.findByNameAndIndustry("Cached Corp", "Retail");
+
+        // then
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
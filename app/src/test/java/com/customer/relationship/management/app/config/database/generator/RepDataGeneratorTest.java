@@ -0,0 +1,113 @@
+package com.customer.relationship.management.app.config.database.generator;
+
+import com.customer.relationship.management.app.accounts.AccountStatus;
+import com.customer.relationship.management.app.leads.LeadStatus;
+import com.customer.relationship.management.app.notes.NoteType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RepDataGeneratorTest {
+
+    private static final LocalDateTime END = LocalDateTime.of(2025, 6, 15, 0, 0);
+    private static final List<Long> COMPANY_IDS = List.of(1L, 2L, 3L);
+
+    private final LoadProfile profile = new LoadProfile(
+            7L, 1, 1, 3, 2, 3, 2, 6, 4, LocalDate.of(2025, 6, 15), 1, 100);
+
+    @Test
+    void generate_WithSameSeed_ShouldProduceSameRows() throws Exception {
+        // when
+        List<String> first = generate(new SplittableRandom(7L));
+        List<String> second = generate(new SplittableRandom(7L));
+
+        // then
+        assertThat(first).isEqualTo(second);
+    }
+
+    @Test
+    void generate_WithDifferentSeed_ShouldProduceDifferentRows() throws Exception {
+        // when
+        List<String> first = generate(new SplittableRandom(7L));
+        List<String> second = generate(new SplittableRandom(8L));
+
+        // then
+        assertThat(first).isNotEqualTo(second);
+    }
+
+    @Test
+    void generate_ShouldFollowProfileShape() throws Exception {
+        // when
+        List<String> rows = generate(new SplittableRandom(7L));
+
+        // then
+        assertThat(rows).filteredOn(row -> row.startsWith("account")).hasSize(2);
+        assertThat(rows).filteredOn(row -> row.startsWith("lead")).hasSize(6);
+        assertThat(rows).filteredOn(row -> row.startsWith("note")).hasSize(4);
+        assertThat(rows).filteredOn(row -> row.startsWith("sale")).hasSize(24);
+    }
+
+    @Test
+    void generate_ShouldNotCreateSalesAfterEndDate() throws Exception {
+        // given
+        List<LocalDateTime> closeDates = new ArrayList<>();
+        RecordingSink sink = new RecordingSink() {
+            @Override
+            public void sale(BigDecimal amount, LocalDateTime closeDate) {
+                closeDates.add(closeDate);
+            }
+        };
+
+        // when
+        RepDataGenerator.generate(profile, 0, COMPANY_IDS, END, new SplittableRandom(7L), sink);
+
+        // then
+        assertThat(closeDates)
+                .hasSize(24)
+                .allSatisfy(closeDate -> assertThat(closeDate)
+                        .isBefore(END)
+                        .isAfterOrEqualTo(LocalDateTime.of(2025, 1, 1, 0, 0)));
+    }
+
+    private List<String> generate(SplittableRandom random) throws Exception {
+        RecordingSink sink = new RecordingSink();
+        RepDataGenerator.generate(profile, 0, COMPANY_IDS, END, random, sink);
+        return sink.rows;
+    }
+
+    private static class RecordingSink implements RepDataSink {
+
+        private final List<String> rows = new ArrayList<>();
+        private long nextAccountId = 1;
+
+        @Override
+        public long account(String firstName, String lastName, String email, String phoneNumber,
+                            AccountStatus status, long companyId) {
+            rows.add("account " + email + " " + phoneNumber + " " + status + " " + companyId);
+            return nextAccountId++;
+        }
+
+        @Override
+        public void lead(long accountId, String description, LeadStatus status, BigDecimal estimatedValue,
+                         LocalDateTime createdAt) {
+            rows.add("lead " + accountId + " " + status + " " + estimatedValue + " " + createdAt);
+        }
+
+        @Override
+        public void note(long accountId, String content, NoteType type, LocalDateTime noteDate) {
+            rows.add("note " + accountId + " " + type + " " + noteDate);
+        }
+
+        @Override
+        public void sale(BigDecimal amount, LocalDateTime closeDate) {
+            rows.add("sale " + amount + " " + closeDate);
+        }
+    }
+}
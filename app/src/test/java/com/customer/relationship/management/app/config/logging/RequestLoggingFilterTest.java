@@ -0,0 +1,99 @@
+package com.customer.relationship.management.app.config.logging;
+
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class RequestLoggingFilterTest {
+
+    private final List<RequestLogEvent> events = new CopyOnWriteArrayList<>();
+    private RequestLoggingFilter filter;
+
+    @AfterEach
+    void tearDown() {
+        filter.destroy();
+    }
+
+    @Test
+    void sampledMode_ShouldRedactHeadersAndTruncateResponseBody() throws Exception {
+        // given
+        filter = sampledFilter(1.0);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/leads");
+        request.addHeader("Authorization", "Bearer secret-token");
+        request.addHeader("Accept", "application/json");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, (req, res) ->
+                res.getOutputStream().write("0123456789abcdef".getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(response.getContentAsString()).isEqualTo("0123456789abcdef");
+        await().atMost(Duration.ofSeconds(2)).until(() -> events.size() == 1);
+
+        RequestLogEvent event = events.get(0);
+        assertThat(event.headers()).contains("Authorization: [redacted]").doesNotContain("secret-token");
+        assertThat(event.headers()).contains("Accept: application/json");
+        assertThat(new String(event.responseBody(), StandardCharsets.UTF_8)).isEqualTo("01234567");
+        assertThat(event.responseBodyLength()).isEqualTo(16);
+        assertThat(event.format()).contains("[truncated, 16 bytes]");
+    }
+
+    @Test
+    void sampledMode_WithZeroRate_ShouldStillLogServerErrors() throws Exception {
+        // given
+        filter = sampledFilter(0.0);
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/leads"), new MockHttpServletResponse(),
+                (req, res) -> ((HttpServletResponse) res).setStatus(200));
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/notes"), new MockHttpServletResponse(),
+                (req, res) -> ((HttpServletResponse) res).setStatus(500));
+
+        // then
+        await().atMost(Duration.ofSeconds(2)).until(() -> events.size() == 1);
+        Thread.sleep(50);
+        assertThat(events).extracting(RequestLogEvent::uri).containsExactly("/api/notes");
+    }
+
+    @Test
+    void sampledMode_WithAsyncResponse_ShouldNotCaptureBody() throws Exception {
+        // given
+        filter = sampledFilter(1.0);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/leads/export");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<ServletResponse> streamed = new AtomicReference<>();
+
+        // when
+        filter.doFilter(request, response, (req, res) -> {
+            res.getOutputStream().write("id,".getBytes(StandardCharsets.UTF_8));
+            request.setAsyncStarted(true);
+            streamed.set(res);
+        });
+        streamed.get().getOutputStream().write("name\r\n".getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThat(response.getContentAsString()).isEqualTo("id,name\r\n");
+        await().atMost(Duration.ofSeconds(2)).until(() -> events.size() == 1);
+        assertThat(events.get(0).responseBody()).isEmpty();
+        assertThat(events.get(0).responseBodyLength()).isZero();
+    }
+
+    private RequestLoggingFilter sampledFilter(double sampleRate) {
+        return new RequestLoggingFilter(RequestLoggingFilter.Mode.SAMPLED, sampleRate, 500, 8,
+                Set.of("Authorization"), 16, events::add);
+    }
+}
@@ -0,0 +1,63 @@
+package com.customer.relationship.management.app.config.monitoring;
+
+import com.customer.relationship.management.app.users.User;
+import com.customer.relationship.management.app.users.UserRepository;
+import com.customer.relationship.management.app.users.UserRole;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class RequestMetricsFilterIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setFirstName("Metrics");
+        user.setLastName("Rep");
+        user.setEmail("metrics-rep@example.com");
+        user.setPassword("secret");
+        user.setRole(UserRole.SALESPERSON);
+        userRepository.save(user);
+    }
+
+    @Test
+    @WithMockUser(username = "metrics-rep@example.com", roles = "SALESPERSON")
+    void request_ShouldRecordStatementsUnderMappingPattern() throws Exception {
+        // when
+        mockMvc.perform(get("/api/accounts/my")).andExpect(status().isOk());
+
+        // then
+        DistributionSummary statements = meterRegistry.find("crm.http.db.statements")
+                .tags("uri", "/api/accounts/my", "method", "GET")
+                .summary();
+        assertThat(statements).isNotNull();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.find("crm.http.db.time").tag("uri", "/api/accounts/my").timer()).isNotNull();
+    }
+}
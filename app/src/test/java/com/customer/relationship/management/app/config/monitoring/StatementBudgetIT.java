@@ -0,0 +1,78 @@
+package com.customer.relationship.management.app.config.monitoring;
+
+import com.customer.relationship.management.app.users.User;
+import com.customer.relationship.management.app.users.UserRepository;
+import com.customer.relationship.management.app.users.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest(properties = "crm.db.statement-budget.endpoints[/api/accounts/my]=0")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class StatementBudgetIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setFirstName("Budget");
+        user.setLastName("Rep");
+        user.setEmail("budget-rep@example.com");
+        user.setPassword("secret");
+        user.setRole(UserRole.SALESPERSON);
+        userRepository.save(user);
+    }
+
+    @Test
+    @WithMockUser(username = "budget-rep@example.com", roles = "SALESPERSON")
+    void request_OverBudget_ShouldFailWhenConfiguredTo() {
+        // when
+        Throwable thrown = catchThrowable(() -> mockMvc.perform(get("/api/accounts/my")));
+
+        // then
+        assertThat(thrown).isNotNull();
+        assertThat(NestedExceptionUtils.getMostSpecificCause(thrown))
+                .isInstanceOf(StatementBudgetExceededException.class)
+                .hasMessageContaining("GET /api/accounts/my prepared")
+                .hasMessageContaining("budget is 0");
+    }
+
+    @Test
+    void jdbcTemplate_ShouldCountTowardsRequestStatements() {
+        // given
+        RequestDbStats stats = RequestDbStats.begin();
+
+        // when
+        try {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+        } finally {
+            RequestDbStats.end();
+        }
+
+        // then
+        assertThat(stats.preparedStatements()).isEqualTo(1);
+        assertThat(stats.mostRepeated(1).getFirst().getKey()).isEqualTo(RequestCountingJdbcTemplate.STATEMENT_LABEL);
+    }
+}
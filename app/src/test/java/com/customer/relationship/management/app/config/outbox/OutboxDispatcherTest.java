@@ -0,0 +1,132 @@
+package com.customer.relationship.management.app.config.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class OutboxDispatcherTest {
+
+    record Ping(long id) {
+    }
+
+    private final List<Ping> received = new ArrayList<>();
+    private OutboxEventRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    private Long failingId;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(OutboxEventRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void dispatchBatch_ShouldDeliverInOrderAndMarkDoneInOneUpdate() {
+        // given
+        List<OutboxEvent> batch = List.of(event(1L, "{\"id\":1}"), event(2L, "{\"id\":2}"));
+
+        // when
+        int delivered = dispatcher(10).dispatchBatch(batch);
+
+        // then
+        assertThat(delivered).isEqualTo(2);
+        assertThat(received).containsExactly(new Ping(1), new Ping(2));
+        verify(repository).markDone(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        assertThat(meterRegistry.counter("crm.outbox.delivered").count()).isEqualTo(2);
+    }
+
+    @Test
+    void dispatchBatch_WhenSubscriberKeepsFailing_ShouldMarkEventFailedAfterMaxAttempts() {
+        // given
+        failingId = 1L;
+        OutboxEvent event = event(1L, "{\"id\":1}");
+        event.setAttempts(1);
+
+        // when
+        int delivered = dispatcher(10).dispatchBatch(List.of(event));
+
+        // then
+        assertThat(delivered).isZero();
+        assertThat(event.getAttempts()).isEqualTo(2);
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        verify(repository, never()).markDone(anyList(), any());
+        verify(repository).saveAll(List.of(event));
+        assertThat(meterRegistry.counter("crm.outbox.failed").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("crm.outbox.retried").count()).isZero();
+    }
+
+    @Test
+    void dispatchBatch_WhenSubscriberFailsFirstAttempt_ShouldCountRetryNotFailure() {
+        // given
+        failingId = 1L;
+        OutboxEvent event = event(1L, "{\"id\":1}");
+
+        // when
+        dispatcher(10).dispatchBatch(List.of(event));
+
+        // then
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(meterRegistry.counter("crm.outbox.retried").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("crm.outbox.failed").count()).isZero();
+    }
+
+    @Test
+    void poll_WithFailingEventInFullBatch_ShouldKeepDrainingPastIt() {
+        // given
+        failingId = 1L;
+        when(repository.findPending(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(event(1L, "{\"id\":1}"), event(2L, "{\"id\":2}")));
+        when(repository.findPending(eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(event(3L, "{\"id\":3}")));
+
+        // when
+        dispatcher(2).poll();
+
+        // then
+        assertThat(received).containsExactly(new Ping(2), new Ping(3));
+        verify(repository, never()).findPending(eq(3L), any(Pageable.class));
+    }
+
+    private OutboxDispatcher dispatcher(int batchSize) {
+        OutboxSubscriber<Ping> subscriber = new OutboxSubscriber<>() {
+            @Override
+            public Class<Ping> eventType() {
+                return Ping.class;
+            }
+
+            @Override
+            public void handle(Ping event) {
+                if (failingId != null && event.id() == failingId) {
+                    throw new IllegalStateException("subscriber down");
+                }
+                received.add(event);
+            }
+        };
+        return new OutboxDispatcher(repository, List.of(subscriber), new ObjectMapper(),
+                mock(PlatformTransactionManager.class), meterRegistry, batchSize, 2, Duration.ofDays(7));
+    }
+
+    private static OutboxEvent event(Long id, String payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(id);
+        event.setEventType(Ping.class.getName());
+        event.setPayload(payload);
+        event.setCreatedAt(LocalDateTime.now().minusSeconds(1));
+        return event;
+    }
+}
@@ -0,0 +1,107 @@
+package com.customer.relationship.management.app.config.web;
+
+import com.customer.relationship.management.app.teams.Team;
+import com.customer.relationship.management.app.users.AuthenticatedUser;
+import com.customer.relationship.management.app.users.CurrentUser;
+import com.customer.relationship.management.app.users.PrincipalCache;
+import com.customer.relationship.management.app.users.User;
+import com.customer.relationship.management.app.users.UserRole;
+import com.customer.relationship.management.app.users.UserView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CurrentUserArgumentResolverTest {
+
+    private PrincipalCache principalCache;
+    private CurrentUserArgumentResolver resolver;
+    private ServletWebRequest webRequest;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = mock(PrincipalCache.class);
+        resolver = new CurrentUserArgumentResolver(principalCache);
+        webRequest = new ServletWebRequest(new MockHttpServletRequest());
+
+        Team team = new Team();
+        team.setId(7L);
+        user = new User();
+        user.setId(3L);
+        user.setEmail("anna@example.com");
+        user.setRole(UserRole.MANAGER);
+        user.setTeam(team);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void supportsParameter_ShouldRequireAnnotationAndSupportedType() throws Exception {
+        // when & then
+        assertThat(resolver.supportsParameter(parameter("view"))).isTrue();
+        assertThat(resolver.supportsParameter(parameter("entity"))).isTrue();
+        assertThat(resolver.supportsParameter(parameter("unannotated"))).isFalse();
+    }
+
+    @Test
+    void resolveArgument_ShouldBuildViewOncePerRequest() throws Exception {
+        // given
+        var authentication = new UsernamePasswordAuthenticationToken(new AuthenticatedUser(user), null, List.of());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        when(principalCache.resolve(authentication)).thenReturn(user);
+
+        // when
+        Object first = resolver.resolveArgument(parameter("view"), null, webRequest, null);
+        Object second = resolver.resolveArgument(parameter("entity"), null, webRequest, null);
+
+        // then
+        assertThat(first).isEqualTo(new UserView(3L, "anna@example.com", UserRole.MANAGER, 7L));
+        assertThat(second).isSameAs(user);
+        verify(principalCache, times(1)).resolve(any());
+    }
+
+    @Test
+    void resolveArgument_WithoutAuthentication_ShouldThrow() {
+        // when & then
+        assertThatThrownBy(() -> resolver.resolveArgument(parameter("view"), null, webRequest, null))
+                .isInstanceOf(AuthenticationCredentialsNotFoundException.class);
+    }
+
+    private static MethodParameter parameter(String methodName) throws NoSuchMethodException {
+        for (Method method : Handlers.class.getDeclaredMethods()) {
+            if (method.getName().equals(methodName)) {
+                return new MethodParameter(method, 0);
+            }
+        }
+        throw new NoSuchMethodException(methodName);
+    }
+
+    @SuppressWarnings("unused")
+    private static class Handlers {
+        void view(@CurrentUser UserView user) {
+        }
+
+        void entity(@CurrentUser User user) {
+        }
+
+        void unannotated(UserView user) {
+        }
+    }
+}
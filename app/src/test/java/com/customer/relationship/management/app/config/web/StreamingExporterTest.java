@@ -0,0 +1,83 @@
+package com.customer.relationship.management.app.config.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class StreamingExporterTest {
+
+    record Row(long id, String name) {
+    }
+
+    private PlatformTransactionManager transactionManager;
+    private EntityManager entityManager;
+    private StreamingExporter exporter;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = mock(PlatformTransactionManager.class);
+        entityManager = mock(EntityManager.class);
+        exporter = new StreamingExporter(transactionManager, entityManager, new ObjectMapper(), 2);
+    }
+
+    @Test
+    void ndjson_ShouldWriteOneObjectPerLineAndClearPeriodically() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AtomicBoolean closed = new AtomicBoolean();
+
+        // when
+        exporter.body(ExportFormat.NDJSON, () -> IntStream.rangeClosed(1, 5)
+                        .mapToObj(i -> new Row(i, "row " + i))
+                        .onClose(() -> closed.set(true)))
+                .writeTo(out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(5);
+        assertThat(lines[0]).isEqualTo("{\"id\":1,\"name\":\"row 1\"}");
+        assertThat(closed).isTrue();
+        verify(entityManager, times(2)).clear();
+        verify(transactionManager).getTransaction(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void csv_ShouldWriteHeaderAndEscapeValues() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        exporter.body(ExportFormat.CSV, () -> Stream.of(new Row(1, "Acme, Inc."), new Row(2, "say \"hi\"")))
+                .writeTo(out);
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8))
+                .isEqualTo("id,name\r\n1,\"Acme, Inc.\"\r\n2,\"say \"\"hi\"\"\"\r\n");
+    }
+
+    @Test
+    void csv_WithNoRows_ShouldWriteEmptyBody() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        exporter.body(ExportFormat.CSV, Stream::<Row>empty).writeTo(out);
+
+        // then
+        assertThat(out.size()).isZero();
+        verify(transactionManager).commit(any());
+    }
+}
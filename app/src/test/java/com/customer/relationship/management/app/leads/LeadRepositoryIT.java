@@ -0,0 +1,130 @@
+package com.customer.relationship.management.app.leads;
+
+import com.customer.relationship.management.app.TestEntitiesUtils;
+import com.customer.relationship.management.app.accounts.Account;
+import com.customer.relationship.management.app.accounts.AccountStatus;
+import com.customer.relationship.management.app.accounts.Company;
+import com.customer.relationship.management.app.users.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class LeadRepositoryIT {
+
+    private static final int LEADS = 12;
+
+    @Autowired
+    private LeadRepository leadRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User owner;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        owner = TestEntitiesUtils.getTestUser("lead-repo@example.com");
+        entityManager.persist(owner);
+
+        Company company = Company.of("Lead Repo Corp", "Logistics");
+        entityManager.persist(company);
+
+        account = new Account();
+        account.setUser(owner);
+        account.setCompany(company);
+        account.setFirstName("Jane");
+        account.setLastName("Doe");
+        account.setEmail("lead-repo-account@example.com");
+        account.setPhoneNumber("1234567890");
+        account.setAccountStatus(AccountStatus.ACTIVE);
+        entityManager.persist(account);
+
+        for (int i = 0; i < LEADS; i++) {
+            Lead lead = new Lead();
+            lead.setDescription("Lead " + i);
+            lead.setEstimatedValue(BigDecimal.valueOf(1000 + i));
+            lead.setAccount(account);
+            entityManager.persist(lead);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findPageByAccountUserId_ShouldProjectCompanyColumnsInTwoStatements() {
+        // given
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        Page<LeadDTO> page = leadRepository.findPageByAccountUserId(owner.getId(),
+                PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "estimatedValue")));
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(LEADS);
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(page.getContent().getFirst().getEstimatedValue()).isEqualByComparingTo("1011");
+        assertThat(page.getContent()).allSatisfy(lead -> {
+            assertThat(lead.getCompanyName()).isEqualTo("Lead Repo Corp");
+            assertThat(lead.getCompanyIndustry()).isEqualTo("Logistics");
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void findSlice_ShouldWalkAllLeadsInKeyOrderWithoutGapsOrDuplicates() {
+        // given
+        persistLead("Unpriced", null);
+        persistLead("Duplicate price", BigDecimal.valueOf(1005));
+        entityManager.flush();
+        entityManager.clear();
+        List<Long> expected = leadRepository.findPageByAccountUserId(owner.getId(),
+                        PageRequest.of(0, 100, Sort.by(Sort.Direction.DESC, "estimatedValue").and(Sort.by(Sort.Direction.DESC, "id"))))
+                .map(LeadDTO::getId)
+                .getContent();
+
+        // when
+        List<Long> walked = new ArrayList<>();
+        LeadCursor cursor = null;
+        Slice<LeadDTO> slice;
+        do {
+            slice = leadRepository.findSlice(owner.getId(), LeadSortKey.ESTIMATED_VALUE, Sort.Direction.DESC, cursor, 5);
+            slice.getContent().forEach(lead -> walked.add(lead.getId()));
+            if (slice.hasNext()) {
+                cursor = LeadCursor.parse(LeadCursor.after(slice.getContent().getLast(),
+                        LeadSortKey.ESTIMATED_VALUE, Sort.Direction.DESC).encode());
+            }
+        } while (slice.hasNext());
+
+        // then
+        assertThat(walked).hasSize(LEADS + 2).containsExactlyElementsOf(expected);
+    }
+
+    private void persistLead(String description, BigDecimal estimatedValue) {
+        Lead lead = new Lead();
+        lead.setDescription(description);
+        lead.setEstimatedValue(estimatedValue);
+        lead.setAccount(entityManager.merge(account));
+        entityManager.persist(lead);
+    }
+}
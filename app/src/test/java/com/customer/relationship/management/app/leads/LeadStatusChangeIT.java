@@ -0,0 +1,155 @@
+package com.customer.relationship.management.app.leads;
+
+import com.customer.relationship.management.app.TestEntitiesUtils;
+import com.customer.relationship.management.app.accounts.Account;
+import com.customer.relationship.management.app.accounts.AccountStatus;
+import com.customer.relationship.management.app.sales.Sale;
+import com.customer.relationship.management.app.sales.SaleRepository;
+import com.customer.relationship.management.app.users.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class LeadStatusChangeIT {
+
+    @Autowired
+    private LeadService leadService;
+
+    @Autowired
+    private LeadRepository leadRepository;
+
+    @Autowired
+    private SaleRepository saleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User owner;
+    private User otherRep;
+    private Lead qualified;
+    private Lead won;
+    private Lead alsoWon;
+    private Lead foreign;
+
+    @BeforeEach
+    void setUp() {
+        owner = TestEntitiesUtils.getTestUser("bulk-owner@example.com");
+        otherRep = TestEntitiesUtils.getTestUser("bulk-other@example.com");
+        entityManager.persist(owner);
+        entityManager.persist(otherRep);
+
+        Account ownAccount = persistAccount(owner, "bulk-own-account@example.com");
+        Account otherAccount = persistAccount(otherRep, "bulk-other-account@example.com");
+
+        qualified = persistLead(ownAccount, "To qualify", 100);
+        won = persistLead(ownAccount, "Won deal", 2500);
+        alsoWon = persistLead(ownAccount, "Another won deal", 500);
+        foreign = persistLead(otherAccount, "Not mine", 900);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void updateStatuses_ShouldUpdateInPlaceAndConvertWonLeadsToSales() {
+        // when
+        BulkStatusUpdateResponse response = leadService.updateStatuses(List.of(
+                new LeadStatusChange(qualified.getId(), LeadStatus.QUALIFICATION),
+                new LeadStatusChange(won.getId(), LeadStatus.CLOSED_WON),
+                new LeadStatusChange(alsoWon.getId(), LeadStatus.CLOSED_WON)
+        ), owner.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(response.updated()).isEqualTo(1);
+        assertThat(response.converted()).isEqualTo(2);
+        assertThat(leadRepository.findById(qualified.getId())).get()
+                .extracting(Lead::getStatus).isEqualTo(LeadStatus.QUALIFICATION);
+        assertThat(leadRepository.findAllById(List.of(won.getId(), alsoWon.getId()))).isEmpty();
+        assertThat(saleRepository.findBySalesRep(owner))
+                .extracting(Sale::getAmount)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactlyInAnyOrder(BigDecimal.valueOf(2500), BigDecimal.valueOf(500));
+    }
+
+    @Test
+    void updateStatuses_WithLeadOfAnotherRep_ShouldRejectWholeBatch() {
+        // when / then
+        assertThatThrownBy(() -> leadService.updateStatuses(List.of(
+                new LeadStatusChange(qualified.getId(), LeadStatus.QUALIFICATION),
+                new LeadStatusChange(foreign.getId(), LeadStatus.QUALIFICATION)
+        ), owner.getId())).isInstanceOf(AccessDeniedException.class);
+
+        entityManager.clear();
+        assertThat(leadRepository.findById(qualified.getId())).get()
+                .extracting(Lead::getStatus).isEqualTo(LeadStatus.NEW);
+    }
+
+    @Test
+    void convertToSale_ShouldBookSaleAndRemoveLead() {
+        // when
+        Sale sale = leadService.convertToSale(won.getId(), owner.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(sale.getId()).isNotNull();
+        assertThat(leadRepository.findById(won.getId())).isEmpty();
+        assertThat(saleRepository.findById(sale.getId())).get()
+                .extracting(Sale::getAmount)
+                .usingComparator(BigDecimal::compareTo)
+                .isEqualTo(BigDecimal.valueOf(2500));
+    }
+
+    @Test
+    void convertToSale_WithLeadOfAnotherRep_ShouldBeDenied() {
+        // when & then
+        assertThatThrownBy(() -> leadService.convertToSale(foreign.getId(), owner.getId()))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThat(leadRepository.findById(foreign.getId())).isPresent();
+        assertThat(saleRepository.findBySalesRep(owner)).isEmpty();
+    }
+
+    @Test
+    void convertToSale_WithUnknownLead_ShouldThrowNotFound() {
+        // when & then
+        assertThatThrownBy(() -> leadService.convertToSale(-1L, owner.getId()))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    private Account persistAccount(User user, String email) {
+        Account account = new Account();
+        account.setUser(user);
+        account.setFirstName("Jane");
+        account.setLastName("Doe");
+        account.setEmail(email);
+        account.setPhoneNumber("1234567890");
+        account.setAccountStatus(AccountStatus.ACTIVE);
+        entityManager.persist(account);
+        return account;
+    }
+
+    private Lead persistLead(Account account, String description, long value) {
+        Lead lead = new Lead();
+        lead.setDescription(description);
+        lead.setEstimatedValue(BigDecimal.valueOf(value));
+        lead.setAccount(account);
+        entityManager.persist(lead);
+        return lead;
+    }
+}
@@ -0,0 +1,179 @@
+package com.customer.relationship.management.app.sales;
+
+import com.customer.relationship.management.app.users.User;
+import com.customer.relationship.management.app.users.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class LiveSalesLeaderboardTest {
+
+    private SaleRepository saleRepository;
+    private UserRepository userRepository;
+    private LiveSalesLeaderboard leaderboard;
+
+    private final YearMonth currentMonth = YearMonth.now();
+
+    @BeforeEach
+    void setUp() {
+        saleRepository = mock(SaleRepository.class);
+        userRepository = mock(UserRepository.class);
+        leaderboard = new LiveSalesLeaderboard(saleRepository, userRepository);
+
+        List<Object[]> rows = List.of(
+                new Object[]{100L, 1L, "Anna", "Nowak", new BigDecimal("1000.00")},
+                new Object[]{101L, 1L, "Anna", "Nowak", new BigDecimal("500.00")},
+                new Object[]{102L, 2L, "Jan", "Kowalski", new BigDecimal("900.50")}
+        );
+        when(saleRepository.findSalesClosedBetween(any(), any())).thenReturn(rows);
+        leaderboard.seed();
+    }
+
+    @Test
+    void getRanking_AfterSeed_ShouldReturnRepsOrderedByTotal() {
+        // when
+        List<SalesRankingDTO> ranking = leaderboard.getRanking(null, null);
+
+        // then
+        assertThat(ranking).extracting(SalesRankingDTO::getUserId).containsExactly(1L, 2L);
+        assertThat(ranking.get(1).getTotalAmount()).isEqualByComparingTo("900.50");
+    }
+
+    @Test
+    void onSaleClosed_ShouldUpdateRankingWithoutQueryingSales() {
+        // when
+        leaderboard.onSaleClosed(new SaleClosedEvent(200L, 2L, new BigDecimal("700.00"), LocalDateTime.now()));
+        List<SalesRankingDTO> ranking = leaderboard.getRanking(null, null);
+
+        // then
+        assertThat(ranking).extracting(SalesRankingDTO::getUserId).containsExactly(2L, 1L);
+        assertThat(ranking.get(0).getTotalAmount()).isEqualByComparingTo("1600.50");
+        assertThat(ranking.get(0).getDealsCount()).isEqualTo(2L);
+        verify(saleRepository, times(1)).findSalesClosedBetween(any(), any());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void onSalesBooked_InTransaction_ShouldCountSalesOnlyAfterCommit() {
+        // given
+        SaleClosedEvent event = new SaleClosedEvent(205L, 2L, new BigDecimal("700.00"), LocalDateTime.now());
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            leaderboard.onSalesBooked(List.of(event));
+            BigDecimal beforeCommit = leaderboard.getRanking(null, null).get(1).getTotalAmount();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // then
+            assertThat(beforeCommit).isEqualByComparingTo("900.50");
+            assertThat(leaderboard.getRanking(null, null).get(0).getTotalAmount()).isEqualByComparingTo("1600.50");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void onSaleClosed_ForNewRep_ShouldLookUpNameOnce() {
+        // given
+        User rep = new User();
+        rep.setId(3L);
+        rep.setFirstName("Ewa");
+        rep.setLastName("Zielinska");
+        when(userRepository.findById(3L)).thenReturn(Optional.of(rep));
+
+        // when
+        leaderboard.onSaleClosed(new SaleClosedEvent(201L, 3L, new BigDecimal("100.00"), LocalDateTime.now()));
+        leaderboard.onSaleClosed(new SaleClosedEvent(202L, 3L, new BigDecimal("100.00"), LocalDateTime.now()));
+
+        // then
+        assertThat(leaderboard.getRanking(null, null))
+                .extracting(SalesRankingDTO::getUserId)
+                .containsExactly(1L, 2L, 3L);
+        verify(userRepository, times(1)).findById(3L);
+    }
+
+    @Test
+    void seed_WithSaleAlreadyCountedFromBooking_ShouldCountItOnce() {
+        // given
+        LiveSalesLeaderboard unseeded = new LiveSalesLeaderboard(saleRepository, userRepository);
+        User rep = new User();
+        rep.setId(2L);
+        rep.setFirstName("Jan");
+        rep.setLastName("Kowalski");
+        when(userRepository.findById(2L)).thenReturn(Optional.of(rep));
+
+        // when
+        unseeded.onSaleClosed(new SaleClosedEvent(102L, 2L, new BigDecimal("900.50"), LocalDateTime.now()));
+        unseeded.seed();
+
+        // then
+        SalesRankingDTO jan = unseeded.getRanking(null, null).get(1);
+        assertThat(jan.getTotalAmount()).isEqualByComparingTo("900.50");
+        assertThat(jan.getDealsCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void removeRep_ShouldDropRepFromRanking() {
+        // when
+        leaderboard.removeRep(1L);
+
+        // then
+        assertThat(leaderboard.getRanking(null, null)).extracting(SalesRankingDTO::getUserId).containsExactly(2L);
+    }
+
+    @Test
+    void renameRep_ShouldShowNewNameWithSameTotals() {
+        // when
+        leaderboard.renameRep(2L, "Janusz", "Kowalczyk");
+
+        // then
+        SalesRankingDTO jan = leaderboard.getRanking(null, null).get(1);
+        assertThat(jan.getFirstName()).isEqualTo("Janusz");
+        assertThat(jan.getLastName()).isEqualTo("Kowalczyk");
+        assertThat(jan.getTotalAmount()).isEqualByComparingTo("900.50");
+    }
+
+    @Test
+    void onSaleClosed_ForSeededSale_ShouldNotCountItAgain() {
+        // when
+        leaderboard.onSaleClosed(new SaleClosedEvent(102L, 2L, new BigDecimal("900.50"), LocalDateTime.now()));
+
+        // then
+        SalesRankingDTO jan = leaderboard.getRanking(null, null).get(1);
+        assertThat(jan.getTotalAmount()).isEqualByComparingTo("900.50");
+        assertThat(jan.getDealsCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void onSaleClosed_ForPreviousMonth_ShouldBeIgnored() {
+        // when
+        leaderboard.onSaleClosed(new SaleClosedEvent(203L, 2L, new BigDecimal("5000.00"),
+                currentMonth.minusMonths(1).atDay(1).atStartOfDay()));
+
+        // then
+        assertThat(leaderboard.getRanking(null, null).get(1).getTotalAmount()).isEqualByComparingTo("900.50");
+    }
+
+    @Test
+    void getRanking_WithLimitAndCursor_ShouldReturnNextPage() {
+        // when
+        List<SalesRankingDTO> firstPage = leaderboard.getRanking(1, null);
+        List<SalesRankingDTO> secondPage = leaderboard.getRanking(1, new RankingCursor(new BigDecimal("1500.00"), 2L, 1L));
+
+        // then
+        assertThat(firstPage).extracting(SalesRankingDTO::getUserId).containsExactly(1L);
+        assertThat(secondPage).extracting(SalesRankingDTO::getUserId).containsExactly(2L);
+    }
+}
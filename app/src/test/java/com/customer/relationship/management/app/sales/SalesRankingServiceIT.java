@@ -0,0 +1,192 @@
+package com.customer.relationship.management.app.sales;
+
+import com.customer.relationship.management.app.TestEntitiesUtils;
+import com.customer.relationship.management.app.users.User;
+import com.customer.relationship.management.app.users.UserService;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class SalesRankingServiceIT {
+
+    @Autowired
+    private SalesRankingService salesRankingService;
+
+    @Autowired
+    private SaleRepository saleRepository;
+
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private User repA;
+    private User repB;
+    private User repC;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        repA = userService.createUser(TestEntitiesUtils.getTestUser("rank-a@example.com"));
+        repB = userService.createUser(TestEntitiesUtils.getTestUser("rank-b@example.com"));
+        repC = userService.createUser(TestEntitiesUtils.getTestUser("rank-c@example.com"));
+
+        createSale(repA, 5000, LocalDateTime.of(2023, 3, 10, 12, 0));
+        createSale(repB, 20000, LocalDateTime.of(2023, 3, 11, 12, 0));
+        createSale(repC, 2500, LocalDateTime.of(2023, 3, 12, 12, 0));
+        createSale(repC, 2500, LocalDateTime.of(2023, 3, 13, 12, 0));
+        createSale(repA, 99000, LocalDateTime.of(2023, 4, 1, 12, 0));
+    }
+
+    @Test
+    void getSalesRanking_ShouldReturnRepsSortedByTotalThenDeals() {
+        // when
+        List<SalesRankingDTO> ranking = salesRankingService.getSalesRanking(2023, 3);
+
+        // then
+        assertThat(ranking)
+                .extracting(SalesRankingDTO::getUserId)
+                .containsExactly(repB.getId(), repA.getId(), repC.getId());
+        assertThat(ranking.get(2).getDealsCount()).isEqualTo(2L);
+        assertThat(ranking.get(2).getFirstName()).isEqualTo(repC.getFirstName());
+    }
+
+    @Test
+    void getSalesRanking_ShouldIssueExactlyOneStatement() {
+        // given
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        // when
+        List<SalesRankingDTO> ranking = salesRankingService.getSalesRanking(2023, 3);
+
+        // then
+        assertThat(ranking).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getSalesRanking_ForClosedMonth_ShouldBeServedFromCacheOnSecondCall() {
+        // given
+        entityManager.flush();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        salesRankingService.getSalesRanking(2023, 3);
+        statistics.clear();
+
+        // when
+        List<SalesRankingDTO> ranking = salesRankingService.getSalesRanking(2023, 3);
+
+        // then
+        assertThat(ranking).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void getSalesRanking_ForWholeMonths_ShouldMergeRollupWithMonthlyBreakdown() {
+        // when
+        List<SalesRankingDTO> ranking = salesRankingService.getSalesRanking(
+                LocalDate.of(2023, 3, 1), LocalDate.of(2023, 5, 1));
+
+        // then
+        assertThat(ranking)
+                .extracting(SalesRankingDTO::getUserId)
+                .containsExactly(repA.getId(), repB.getId(), repC.getId());
+        SalesRankingDTO top = ranking.getFirst();
+        assertThat(top.getTotalAmount()).isEqualByComparingTo("104000");
+        assertThat(top.getDealsCount()).isEqualTo(2L);
+        assertThat(top.getMonthlyBreakdown())
+                .extracting(MonthlySalesDTO::month)
+                .containsExactly(3, 4);
+    }
+
+    @Test
+    void getSalesRanking_ForPartialMonthRange_ShouldAggregateSalesInRange() {
+        // when
+        List<SalesRankingDTO> ranking = salesRankingService.getSalesRanking(
+                LocalDate.of(2023, 3, 11), LocalDate.of(2023, 3, 13));
+
+        // then
+        assertThat(ranking)
+                .extracting(SalesRankingDTO::getUserId)
+                .containsExactly(repB.getId(), repC.getId());
+        assertThat(ranking.get(1).getTotalAmount()).isEqualByComparingTo("2500");
+    }
+
+    @Test
+    void getSalesRanking_WithLimitAndCursor_ShouldPageThroughMonth() {
+        // when
+        List<SalesRankingDTO> firstPage = salesRankingService.getSalesRanking(2023, 3, 2, null);
+        SalesRankingDTO last = firstPage.getLast();
+        List<SalesRankingDTO> secondPage = salesRankingService.getSalesRanking(2023, 3, 2,
+                new RankingCursor(last.getTotalAmount(), last.getDealsCount(), last.getUserId()));
+
+        // then
+        assertThat(firstPage)
+                .extracting(SalesRankingDTO::getUserId)
+                .containsExactly(repB.getId(), repA.getId());
+        assertThat(secondPage)
+                .extracting(SalesRankingDTO::getUserId)
+                .containsExactly(repC.getId());
+    }
+
+    @Test
+    void getSalesRanking_ForRangeWithLimitAndCursor_ShouldReturnTopOfMergedRanking() {
+        // given
+        LocalDate from = LocalDate.of(2023, 3, 1);
+        LocalDate to = LocalDate.of(2023, 5, 1);
+
+        // when
+        List<SalesRankingDTO> top = salesRankingService.getSalesRanking(from, to, 1, null);
+        SalesRankingDTO first = top.getFirst();
+        List<SalesRankingDTO> rest = salesRankingService.getSalesRanking(from, to, 5,
+                new RankingCursor(first.getTotalAmount(), first.getDealsCount(), first.getUserId()));
+
+        // then
+        assertThat(top)
+                .extracting(SalesRankingDTO::getUserId)
+                .containsExactly(repA.getId());
+        assertThat(rest)
+                .extracting(SalesRankingDTO::getUserId)
+                .containsExactly(repB.getId(), repC.getId());
+    }
+
+    private void createSale(User salesRep, double amount, LocalDateTime closeDate) {
+        Sale sale = new Sale();
+        sale.setSalesRep(salesRep);
+        sale.setAmount(BigDecimal.valueOf(amount));
+        sale.setCloseDate(closeDate);
+        saleRepository.save(sale);
+        salesRollupService.recordSale(sale);
+    }
+}
@@ -0,0 +1,98 @@
+package com.customer.relationship.management.app.sales;
+
+import com.customer.relationship.management.app.TestEntitiesUtils;
+import com.customer.relationship.management.app.users.User;
+import com.customer.relationship.management.app.users.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Not transactional: the two bookings must commit in separate transactions to race on the rollup row.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SalesRollupConcurrencyIT {
+
+    private static final LocalDateTime CLOSE_DATE = LocalDateTime.of(2022, 5, 10, 12, 0);
+
+    @Autowired
+    private SaleBookingService saleBookingService;
+
+    @Autowired
+    private SalesMonthlyRollupRepository rollupRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User rep;
+
+    @BeforeEach
+    void setUp() {
+        rep = userService.createUser(TestEntitiesUtils.getTestUser("rollup-race@example.com"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userService.deleteUser(rep.getId());
+    }
+
+    @Test
+    void bookAll_FirstSalesOfMonthInConcurrentTransactions_ShouldBothCountInOneRow() throws Exception {
+        // given
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch firstInserted = new CountDownLatch(1);
+
+        // when
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status -> {
+            saleBookingService.bookAll(List.of(sale(1000)));
+            firstInserted.countDown();
+            sleep(300);
+        }));
+        firstInserted.await(5, TimeUnit.SECONDS);
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status ->
+                saleBookingService.bookAll(List.of(sale(500)))));
+        CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+
+        // then
+        List<SalesMonthlyRollup> rollups = rollupRepository.findAll().stream()
+                .filter(rollup -> rollup.getSalesRep().getId().equals(rep.getId()))
+                .toList();
+        assertThat(rollups).hasSize(1);
+        assertThat(rollups.getFirst().getTotalAmount()).isEqualByComparingTo("1500");
+        assertThat(rollups.getFirst().getDealsCount()).isEqualTo(2L);
+    }
+
+    private Sale sale(int amount) {
+        Sale sale = new Sale();
+        sale.setSalesRep(rep);
+        sale.setAmount(BigDecimal.valueOf(amount));
+        sale.setCloseDate(CLOSE_DATE);
+        return sale;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.customer.relationship.management.app.teams;
 
 import com.customer.relationship.management.app.sales.Sale;
 import com.customer.relationship.management.app.sales.SaleRepository;
+import com.customer.relationship.management.app.sales.SalesRollupService;
 import com.customer.relationship.management.app.users.User;
 import com.customer.relationship.management.app.users.UserService;
 import com.customer.relationship.management.app.users.UserRole;
@@ -42,6 +43,9 @@ class TeamReportControllerTest {
     @Autowired
     private SaleRepository saleRepository;
 
+    @Autowired
+    private SalesRollupService salesRollupService;
+
     @Autowired
     private UserService userService;
 
@@ -69,6 +73,7 @@ class TeamReportControllerTest {
         sale.setAmount(BigDecimal.valueOf(10000));
         sale.setCloseDate(LocalDateTime.of(2025, 6, 5, 14, 30));
         saleRepository.save(sale);
+        salesRollupService.recordSale(sale);
     }
 
     @Test
@@ -1,6 +1,6 @@
 package com.customer.relationship.management.app.teams;
 
-import com.customer.relationship.management.app.sales.SaleRepository;
+import com.customer.relationship.management.app.sales.SalesMonthlyRollupRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -8,11 +8,12 @@ import java.math.BigDecimal;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 class TeamSalesReportServiceTest {
 
-    private SaleRepository saleRepository;
+    private SalesMonthlyRollupRepository rollupRepository;
     private TeamSalesReportService reportService;
 
     private Object[] rowTeamA;
@@ -20,8 +21,8 @@ class TeamSalesReportServiceTest {
 
     @BeforeEach
     void setUp() {
-        saleRepository = mock(SaleRepository.class);
-        reportService = new TeamSalesReportService(saleRepository);
+        rollupRepository = mock(SalesMonthlyRollupRepository.class);
+        reportService = new TeamSalesReportService(rollupRepository);
 
         rowTeamA = new Object[]{1L, "Team A", BigDecimal.valueOf(15000), 3L, 2L};
         rowTeamB = new Object[]{2L, "Team B", BigDecimal.valueOf(10000), 2L, 3L};
@@ -30,7 +31,7 @@ class TeamSalesReportServiceTest {
     @Test
     void getTeamSalesReport_ShouldReturnSortedReportByTotalSales() {
         // given
-        when(saleRepository.findTeamSalesPerformance(2025, 6))
+        when(rollupRepository.findTeamSalesPerformance(2025, 6))
                 .thenReturn(List.of(rowTeamA, rowTeamB));
 
         // when
@@ -42,19 +43,31 @@ class TeamSalesReportServiceTest {
                 .extracting(TeamSalesReportDTO::getTeamName)
                 .containsExactly("Team A", "Team B"); // posortowane malejąco po totalSales
 
-        verify(saleRepository).findTeamSalesPerformance(2025, 6);
+        verify(rollupRepository).findTeamSalesPerformance(2025, 6);
     }
 
     @Test
     void getTeamSalesReport_WhenNoResults_ShouldReturnEmptyList() {
         // given
-        when(saleRepository.findTeamSalesPerformance(2025, 7)).thenReturn(List.of());
+        when(rollupRepository.findTeamSalesPerformance(2025, 7)).thenReturn(List.of());
 
         // when
         List<TeamSalesReportDTO> report = reportService.getTeamSalesReport(2025, 7);
 
         // then
         assertThat(report).isEmpty();
-        verify(saleRepository).findTeamSalesPerformance(2025, 7);
+        verify(rollupRepository).findTeamSalesPerformance(2025, 7);
+    }
+
+    @Test
+    void getTeamSalesReport_ShouldReturnUnmodifiableList() {
+        // given
+        when(rollupRepository.findTeamSalesPerformance(2025, 6)).thenReturn(List.of(rowTeamA, rowTeamB));
+
+        // when
+        List<TeamSalesReportDTO> report = reportService.getTeamSalesReport(2025, 6);
+
+        // then
+        assertThatThrownBy(report::clear).isInstanceOf(UnsupportedOperationException.class);
     }
 }
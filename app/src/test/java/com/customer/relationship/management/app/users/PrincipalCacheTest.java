@@ -0,0 +1,101 @@
+package com.customer.relationship.management.app.users;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class PrincipalCacheTest {
+
+    private static final String EMAIL = "anna@example.com";
+
+    private UserRepository userRepository;
+    private PrincipalCache principalCache;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        principalCache = new PrincipalCache(userRepository, 100, Duration.ofMinutes(2));
+
+        user = new User();
+        user.setId(1L);
+        user.setEmail(EMAIL);
+        user.setRole(UserRole.SALESPERSON);
+    }
+
+    @Test
+    void getByEmail_ShouldQueryRepositoryOnce() {
+        // given
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        // when
+        principalCache.getByEmail(EMAIL);
+        Optional<User> cached = principalCache.getByEmail(EMAIL);
+
+        // then
+        assertThat(cached).containsSame(user);
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void getByEmail_ForUnknownUser_ShouldNotCacheMiss() {
+        // given
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty(), Optional.of(user));
+
+        // when
+        Optional<User> first = principalCache.getByEmail(EMAIL);
+        Optional<User> second = principalCache.getByEmail(EMAIL);
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).containsSame(user);
+    }
+
+    @Test
+    void invalidate_ShouldReloadUserOnNextLookup() {
+        // given
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        principalCache.getByEmail(EMAIL);
+
+        // when
+        principalCache.invalidate(EMAIL);
+        principalCache.getByEmail(EMAIL);
+
+        // then
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void resolve_WithAuthenticatedUser_ShouldNotQueryRepository() {
+        // given
+        var authentication = new UsernamePasswordAuthenticationToken(new AuthenticatedUser(user), null, List.of());
+
+        // when
+        User resolved = principalCache.resolve(authentication);
+
+        // then
+        assertThat(resolved).isSameAs(user);
+        assertThat(authentication.getName()).isEqualTo(EMAIL);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void resolve_WithOtherPrincipal_ShouldLookUpByName() {
+        // given
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        // when
+        User resolved = principalCache.resolve(new TestingAuthenticationToken(EMAIL, null));
+
+        // then
+        assertThat(resolved).isSameAs(user);
+    }
+}
@@ -1,7 +1,10 @@
 package com.customer.relationship.management.app.users;
 
 import com.customer.relationship.management.app.accounts.AccountRepository;
+import com.customer.relationship.management.app.config.cache.ReportCacheInvalidator;
+import com.customer.relationship.management.app.sales.LiveSalesLeaderboard;
 import com.customer.relationship.management.app.sales.SaleRepository;
+import com.customer.relationship.management.app.sales.SalesMonthlyRollupRepository;
 import com.customer.relationship.management.app.teams.TeamRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,10 +35,18 @@ class UserServiceTest {
     @Mock
     private SaleRepository saleRepository;
     @Mock
+    private SalesMonthlyRollupRepository rollupRepository;
+    @Mock
     private TeamRepository teamRepository;
 
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private PrincipalCache principalCache;
+    @Mock
+    private ReportCacheInvalidator reportCacheInvalidator;
+    @Mock
+    private LiveSalesLeaderboard liveSalesLeaderboard;
 
     @InjectMocks
     private UserService userService;
@@ -134,6 +145,9 @@ class UserServiceTest {
         verify(userRepository).findById(1L);
         verify(passwordEncoder).encode("newPassword");
         verify(userRepository).save(testUser);
+        verify(principalCache).invalidate(TEST_EMAIL);
+        verify(principalCache).invalidate("updated@example.com");
+        verify(liveSalesLeaderboard).renameRep(1L, "Updated", "Name");
 
         assertEquals(updatedDetails.getFirstName(), updatedUser.getFirstName());
         assertEquals(updatedDetails.getLastName(), updatedUser.getLastName());
@@ -166,6 +180,9 @@ class UserServiceTest {
         // Then
         verify(userRepository).findById(1L);
         verify(userRepository).delete(testUser);
+        verify(principalCache).invalidate(testUser.getEmail());
+        verify(reportCacheInvalidator).evictAll();
+        verify(liveSalesLeaderboard).removeRep(1L);
     }
 
     @Test